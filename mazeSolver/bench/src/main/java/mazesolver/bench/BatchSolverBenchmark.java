@@ -0,0 +1,93 @@
+/* *****************************************************************************
+ * Title:            BatchSolverBenchmark
+ * Files:            BatchSolverBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Benchmarks solving many small mazes with MazeBatchSolver
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mazesolver.Maze;
+import mazesolver.MazeBatchSolver;
+import mazesolver.MazeGenerator;
+import mazesolver.MazeSolver;
+
+/**
+ * Measures how many small in-memory mazes per second MazeBatchSolver gets through with different
+ * numbers of worker threads. Each invocation solves a batch of BATCH_SIZE seeded mazes, and the score
+ * is reported per maze.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class BatchSolverBenchmark {
+
+	// How many mazes are solved per invocation
+	private static final int BATCH_SIZE = 1000;
+
+	// Which solver to run
+	@Param({"QUEUE", "ASTAR"})
+	public MazeSolver.Type type;
+
+	// How many worker threads to solve with
+	@Param({"1", "2", "4", "8"})
+	public int threads;
+
+	// The approximate number of cells in each maze
+	@Param({"1000", "10000"})
+	public int cells;
+
+	// The mazes to solve
+	private Maze[] mazes;
+
+	// The batch solver being measured
+	private MazeBatchSolver batchSolver;
+
+	@Setup
+	public void setup() {
+		int side = BenchmarkMazes.side(String.valueOf(cells));
+		mazes = new Maze[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			mazes[i] = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, side, side, BenchmarkMazes.SEED + i);
+		}
+		batchSolver = new MazeBatchSolver(type, threads);
+	}
+
+	@TearDown
+	public void tearDown() {
+		batchSolver.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long solveBatch() {
+		return batchSolver.solve(Arrays.stream(mazes)).mapToLong(MazeBatchSolver.Result::getCellsVisited).sum();
+	}
+}
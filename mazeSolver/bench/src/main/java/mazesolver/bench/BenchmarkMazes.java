@@ -0,0 +1,108 @@
+/* *****************************************************************************
+ * Title:            BenchmarkMazes
+ * Files:            BenchmarkMazes.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 The mazes used as benchmark inputs
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import mazesolver.Maze;
+import mazesolver.MazeGenerator;
+
+/**
+ * Utility class providing the mazes used as benchmark inputs. An input is named either by one of
+ * the maze files shipped with the project (e.g., "big-maze.txt") or by an approximate number of
+ * cells (e.g., "1000000"), in which case a square solveable maze is generated from a fixed seed so
+ * that every run sees exactly the same maze.
+ *
+ * @author Mickie Newman
+ */
+final class BenchmarkMazes {
+
+	// The seed used for every synthetic maze
+	static final long SEED = 2021;
+
+	private BenchmarkMazes() {}
+
+	/**
+	 * Get the maze for a benchmark input
+	 *
+	 * @param input The name of a shipped maze file or an approximate number of cells
+	 * @return The maze
+	 * @throws IOException If a shipped maze file can't be loaded
+	 */
+	static Maze maze(String input) throws IOException {
+		if (isShipped(input)) return new Maze(copyToTempFile(input));
+
+		int side = side(input);
+		return MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, side, side, SEED);
+	}
+
+	/**
+	 * Get a file holding the maze for a benchmark input
+	 *
+	 * @param input The name of a shipped maze file or an approximate number of cells
+	 * @return A temporary file holding the maze, deleted when the JVM exits
+	 * @throws IOException If the maze file can't be created
+	 */
+	static File file(String input) throws IOException {
+		if (isShipped(input)) return copyToTempFile(input);
+
+		File file = File.createTempFile("maze-", "-" + input + ".txt");
+		file.deleteOnExit();
+		if (!maze(input).save(file)) throw new IOException("Error - could not save maze to " + file);
+		return file;
+	}
+
+	/**
+	 * Get the number of rows and columns of the square synthetic maze for a benchmark input
+	 *
+	 * @param input An approximate number of cells
+	 * @return The number of rows (and columns) of the maze
+	 */
+	static int side(String input) {
+		long cells = Long.parseLong(input);
+		return (int) Math.max(Maze.MIN_ROWS, Math.round(Math.sqrt(cells)));
+	}
+
+	/**
+	 * Utility method to check whether a benchmark input names one of the shipped maze files
+	 *
+	 * @param input The benchmark input
+	 * @return True if the input is a shipped maze file, false otherwise
+	 */
+	private static boolean isShipped(String input) {
+		return input.endsWith(".txt");
+	}
+
+	/**
+	 * Copy one of the shipped maze files to a temporary file that is deleted when the JVM exits.
+	 * The files are bundled into the benchmark jar as resources, but Maze can only load from a File.
+	 *
+	 * @param name The name of the maze file (e.g., big-maze.txt)
+	 * @return The temporary copy of the maze file
+	 * @throws IOException If the maze file can't be found or copied
+	 */
+	private static File copyToTempFile(String name) throws IOException {
+		try (InputStream in = BenchmarkMazes.class.getResourceAsStream("/" + name)) {
+			if (in == null) throw new IOException("Error - no shipped maze named " + name);
+
+			File file = File.createTempFile("maze-", "-" + name);
+			file.deleteOnExit();
+			Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return file;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/* *****************************************************************************
+ * Title:            MazeGenerationBenchmark
+ * Files:            MazeGenerationBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Benchmarks generating new mazes
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mazesolver.Maze;
+import mazesolver.MazeGenerator;
+
+/**
+ * Measures the rate at which mazes (and, through the cellsGenerated counter, cells) are generated,
+ * with each MazeGenerator algorithm. Every maze is generated from a fixed seed so each run does the
+ * same work.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class MazeGenerationBenchmark {
+
+	// Approximate number of cells in the generated maze
+	@Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+	public String cells;
+
+	// How to generate the maze (with a guaranteed solution or not)
+	@Param({"DEPTH_FIRST", "RANDOM"})
+	public MazeGenerator.Algorithm algorithm;
+
+	// The number of rows and columns of the generated maze
+	private int side;
+
+	/**
+	 * Counts how many cells are generated, reported by JMH as a rate alongside the benchmark score
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long cellsGenerated;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			cellsGenerated = 0;
+		}
+	}
+
+	@Setup
+	public void setup() {
+		side = BenchmarkMazes.side(cells);
+	}
+
+	@Benchmark
+	public Maze generate(Counters counters) {
+		Maze m = MazeGenerator.generate(algorithm, side, side, BenchmarkMazes.SEED);
+		counters.cellsGenerated += m.numCells();
+		return m;
+	}
+}
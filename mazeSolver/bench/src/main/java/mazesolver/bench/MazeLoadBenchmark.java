@@ -0,0 +1,96 @@
+/* *****************************************************************************
+ * Title:            MazeLoadBenchmark
+ * Files:            MazeLoadBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Benchmarks loading mazes from files
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mazesolver.Maze;
+
+/**
+ * Measures Maze(File) parse throughput, both as mazes loaded per second and (through the cellsParsed
+ * counter) as cells parsed per second, for the shipped maze files and for seeded synthetic mazes
+ * saved to disk. Each maze is loaded from the text format and from the binary format, both
+ * uncompressed and deflated.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class MazeLoadBenchmark {
+
+	// Which maze to load: a shipped maze file or an approximate number of cells
+	@Param({"small-maze.txt", "medium-maze.txt", "classic-ai-maze.txt", "big-maze.txt",
+			"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+	public String maze;
+
+	// Which format the maze is saved in
+	@Param({"TEXT", "BINARY", "DEFLATE"})
+	public String format;
+
+	// The file holding the maze
+	private File file;
+
+	/**
+	 * Counts how many cells are parsed, reported by JMH as a rate alongside the benchmark score
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long cellsParsed;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			cellsParsed = 0;
+		}
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		file = BenchmarkMazes.file(maze);
+		if (!format.equals("TEXT")) {
+			File binary = File.createTempFile("maze-", "-" + maze + Maze.BINARY_EXTENSION);
+			binary.deleteOnExit();
+			if (!new Maze(file).saveBinary(binary, format.equals("DEFLATE"))) {
+				throw new IOException("Error - could not save maze to " + binary);
+			}
+			file = binary;
+		}
+	}
+
+	@Benchmark
+	public Maze load(Counters counters) throws IOException {
+		Maze m = new Maze(file);
+		counters.cellsParsed += m.numCells();
+		return m;
+	}
+}
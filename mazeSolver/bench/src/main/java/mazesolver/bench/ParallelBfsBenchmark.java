@@ -0,0 +1,100 @@
+/* *****************************************************************************
+ * Title:            ParallelBfsBenchmark
+ * Files:            ParallelBfsBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Benchmarks how the parallel BFS solver scales with threads
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mazesolver.Maze;
+import mazesolver.MazeSolver;
+import mazesolver.ParallelBfsSolver;
+
+/**
+ * Measures how ParallelBfsSolver scales from 1 to N threads, each run on its own fork-join pool with
+ * that parallelism. The benchmark score is complete solves per second and the cellsExpanded counter
+ * reports cells expanded per second; compare against the QUEUE results from SolverBenchmark for the
+ * single-threaded baseline. Thread counts above the machine's core count show the cost of oversubscription.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ParallelBfsBenchmark {
+
+	// How many threads to expand each level with
+	@Param({"1", "2", "4", "8", "16", "32"})
+	public int threads;
+
+	// Which maze to solve: a shipped maze file or an approximate number of cells
+	@Param({"big-maze.txt", "1000000", "10000000", "100000000"})
+	public String maze;
+
+	// The maze being solved
+	private Maze m;
+
+	// The pool the solver runs on
+	private ForkJoinPool pool;
+
+	/**
+	 * Counts how many cells are expanded, reported by JMH as a rate alongside the benchmark score
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long cellsExpanded;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			cellsExpanded = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		m = BenchmarkMazes.maze(maze);
+		pool = new ForkJoinPool(threads);
+	}
+
+	@TearDown(Level.Trial)
+	public void shutdownPool() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public MazeSolver.Status solve(Counters counters) {
+		MazeSolver solver = new ParallelBfsSolver(m, pool);
+		MazeSolver.Status status = solver.solveFast();
+		counters.cellsExpanded += solver.getCellsVisited();
+		return status;
+	}
+}
@@ -0,0 +1,112 @@
+/* *****************************************************************************
+ * Title:            SolverAllocationBenchmark
+ * Files:            SolverAllocationBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Measures how much the maze solvers allocate while stepping
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.management.ThreadMXBean;
+
+import mazesolver.Maze;
+import mazesolver.MazeSolver;
+
+/**
+ * Measures the bytes each solver allocates per expanded cell. A solver allocates its per-cell arrays
+ * when it is created, once per trial here, and is reset (in constant time) before each invocation;
+ * what's measured is only the solve itself (solveFast), using the current thread's allocation counter.
+ * The bytesAllocated and cellsExpanded counters are reported as rates, so bytes per expanded cell is
+ * their ratio.
+ *
+ * With primitive frontiers the only allocation while stepping is the frontier's array doubling as it
+ * grows, and a reset solver keeps the arrays it grew in earlier solves, so after warmup every solver
+ * should be at 0 B per expanded cell; run with "-prof gc" to cross-check against the JVM's own numbers.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SolverAllocationBenchmark {
+
+	// Reads the bytes allocated by the benchmark thread
+	private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	// Which solver to run
+	@Param({"STACK", "QUEUE", "ASTAR", "BIDIRECTIONAL", "JUMP_POINT", "PARALLEL_BFS"})
+	public MazeSolver.Type type;
+
+	// Which maze to solve: a shipped maze file or an approximate number of cells
+	@Param({"big-maze.txt", "no-solution-maze.txt", "100000", "1000000"})
+	public String maze;
+
+	// The maze being solved
+	private Maze m;
+
+	// The solver, reset before each solve
+	private MazeSolver solver;
+
+	/**
+	 * Counts the bytes allocated while solving and the cells expanded, reported by JMH as rates
+	 * alongside the benchmark score
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long bytesAllocated;
+		public long cellsExpanded;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytesAllocated = 0;
+			cellsExpanded = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void loadMaze() throws IOException {
+		m = BenchmarkMazes.maze(maze);
+		solver = MazeSolver.create(type, m);
+	}
+
+	@Setup(Level.Invocation)
+	public void resetSolver() {
+		solver.reset();
+	}
+
+	@Benchmark
+	public MazeSolver.Status solve(Counters counters) {
+		long before = THREADS.getCurrentThreadAllocatedBytes();
+		MazeSolver.Status status = solver.solveFast();
+		counters.bytesAllocated += THREADS.getCurrentThreadAllocatedBytes() - before;
+		counters.cellsExpanded += solver.getCellsVisited();
+		return status;
+	}
+}
@@ -0,0 +1,105 @@
+/* *****************************************************************************
+ * Title:            SolverBenchmark
+ * Files:            SolverBenchmark.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Benchmarks the maze solvers
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mazesolver.Maze;
+import mazesolver.MazeSolver;
+
+/**
+ * Measures each solver on the shipped mazes and on seeded synthetic mazes. The benchmark score is
+ * complete solves per second (using solveFast) and the cellsExpanded counter reports cells expanded
+ * per second. Run with "-prof gc" to get the allocation per solve (gc.alloc.rate.norm).
+ *
+ * Each solver keeps what it has explored in its own SearchState, so the same maze is reused for every
+ * solve without clearing it. The solve benchmark creates a new solver (and so new per-cell arrays) for
+ * every solve, while resolve resets one solver between solves, which only starts a new search epoch;
+ * the gap between the two is the cost of allocating and zeroing those arrays.
+ *
+ * @author Mickie Newman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SolverBenchmark {
+
+	// Which solver to run
+	@Param({"STACK", "QUEUE", "ASTAR", "BIDIRECTIONAL", "JUMP_POINT", "PARALLEL_BFS"})
+	public MazeSolver.Type type;
+
+	// Which maze to solve: a shipped maze file or an approximate number of cells
+	@Param({"small-maze.txt", "medium-maze.txt", "classic-ai-maze.txt", "big-maze.txt", "no-solution-maze.txt",
+			"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+	public String maze;
+
+	// The maze being solved
+	private Maze m;
+
+	// A solver reused (after a reset) by every resolve
+	private MazeSolver reused;
+
+	/**
+	 * Counts how many cells are expanded, reported by JMH as a rate alongside the benchmark score
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+		public long cellsExpanded;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			cellsExpanded = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void loadMaze() throws IOException {
+		m = BenchmarkMazes.maze(maze);
+		reused = MazeSolver.create(type, m);
+	}
+
+	@Benchmark
+	public MazeSolver.Status solve(Counters counters) {
+		MazeSolver solver = MazeSolver.create(type, m);
+		MazeSolver.Status status = solver.solveFast();
+		counters.cellsExpanded += solver.getCellsVisited();
+		return status;
+	}
+
+	@Benchmark
+	public MazeSolver.Status resolve(Counters counters) {
+		reused.reset();
+		MazeSolver.Status status = reused.solveFast();
+		counters.cellsExpanded += reused.getCellsVisited();
+		return status;
+	}
+}
@@ -0,0 +1,236 @@
+/* *****************************************************************************
+ * Title:            AStarSolver
+ * Files:            AStarSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A MazeSolver that uses A* search
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A MazeSolver that uses A* search. Cells are kept in a priority queue ordered by the distance
+ * travelled to reach them plus an estimate (the heuristic) of the distance left to the goal, so the
+ * search heads towards the goal instead of spreading out evenly like BFS. As long as the heuristic
+ * never overestimates, the first time the goal is expanded it has been reached by a shortest path.
+ *
+ * Cells are identified by their index (row * columns + column), so the frontier is a primitive
+ * IntMinHeap and the distances are a plain int array. A cell's distance is only meaningful once the
+ * search state has it marked as discovered, so the array never needs clearing between searches.
+ *
+ * @author Mickie Newman
+ *
+ */
+public class AStarSolver extends MazeSolver {
+
+	/**
+	 * The possible heuristics for estimating the distance from a cell to the goal
+	 *
+	 * @author Mickie Newman
+	 */
+	public static enum Heuristic {
+		/** Rows plus columns apart; the exact distance on an open grid with no diagonal moves */
+		MANHATTAN,
+		/** The distance if diagonal moves (costing sqrt(2)) were allowed; never more than MANHATTAN */
+		OCTILE,
+		/** Always 0, which turns A* into Dijkstra's algorithm (i.e., BFS order) */
+		ZERO;
+
+		/**
+		 * Estimate the distance between two cells
+		 *
+		 * @param rowsApart The absolute difference between the cells' rows
+		 * @param columnsApart The absolute difference between the cells' columns
+		 * @return The estimated distance, rounded down so that it never overestimates
+		 */
+		int estimate(int rowsApart, int columnsApart) {
+			switch(this) {
+				case MANHATTAN: return rowsApart + columnsApart;
+				case OCTILE: return Math.max(rowsApart, columnsApart)
+						+ (int) ((Math.sqrt(2) - 1) * Math.min(rowsApart, columnsApart));
+				default: return 0;
+			}
+		}
+	}
+
+	// The heuristic used to estimate the distance to the goal
+	private final Heuristic heuristic;
+
+	// The cells waiting to be expanded, ordered by estimated total path length
+	private final IntMinHeap open = new IntMinHeap();
+
+	// The shortest known distance from the start to each discovered cell
+	private final int[] distance;
+
+	// The maze's dimensions and the location of the goal
+	private final int columns, rows, goalRow, goalColumn;
+
+	/**
+	 * Create an AStarSolver for a given maze using the Manhattan distance heuristic
+	 *
+	 * @param maze The maze the AStarSolver will attempt to solve.
+	 */
+	public AStarSolver(Maze maze)
+	{
+		this(maze, Heuristic.MANHATTAN);
+	}
+
+	/**
+	 * Create an AStarSolver for a given maze
+	 *
+	 * @param maze The maze the AStarSolver will attempt to solve.
+	 * @param heuristic The heuristic used to estimate the distance to the goal
+	 */
+	public AStarSolver(Maze maze, Heuristic heuristic)
+	{
+		this(new SearchState(maze), heuristic);
+	}
+
+	/**
+	 * Create an AStarSolver that records its search in an existing search state, using the Manhattan
+	 * distance heuristic
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the AStarSolver will solve
+	 */
+	public AStarSolver(SearchState state)
+	{
+		this(state, Heuristic.MANHATTAN);
+	}
+
+	/**
+	 * Create an AStarSolver that records its search in an existing search state
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the AStarSolver will solve
+	 * @param heuristic The heuristic used to estimate the distance to the goal
+	 */
+	public AStarSolver(SearchState state, Heuristic heuristic)
+	{
+		super(state); // Call the MazeSolver constructor to initialize the maze instance variable
+
+		if (heuristic == null) throw new IllegalArgumentException("Error - cannot create a solver with a null heuristic");
+		this.heuristic = heuristic;
+		this.rows = maze.numRows();
+		this.columns = maze.numColumns();
+		this.goalRow = maze.getGoalCell().getRow();
+		this.goalColumn = maze.getGoalCell().getColumn();
+
+		distance = new int[(int) maze.numCells()];
+		begin();
+	}
+
+	/**
+	 * Set up the frontier for a new search, holding just the starting cell
+	 */
+	@Override
+	protected void begin() {
+		open.clear();
+
+		// Add the starting cell of the maze to the frontier
+		Cell start = maze.getStartCell();
+		int startIndex = start.getRow() * columns + start.getColumn();
+		distance[startIndex] = 0;
+		state.setDiscovered(startIndex);
+		open.add(startIndex, estimate(startIndex));
+		updatePeakFrontierSize(open.size());
+	}
+
+	/**
+	 * Step explores a single cell. If the cell is the goal, then return true. If it is apparent
+	 * that there is no possible solution, step should return false. Otherwise, step should mark the
+	 * cell as visited, determine which cells should be visited next, and return false.
+	 *
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached),
+	 * 		   false otherwise
+	 */
+	@Override
+	public boolean step() {
+		return step(1) == Status.SOLVED;
+	}
+
+	/**
+	 * Take up to n steps, stopping early if the maze is solved or found to have no solution. This is
+	 * the solver's hot loop (a single step is just a batch of one): the status is only checked on the
+	 * way in and when it changes, and the frontier, distances and search state are held in locals
+	 * throughout. Each step expands one cell; stale copies of cells on the frontier don't count.
+	 *
+	 * @param n The maximum number of steps to take (must be >= 0)
+	 * @return The solver status after stepping
+	 */
+	@Override
+	public Status step(int n) {
+		checkSteps(n);
+		if (status != Status.UNSOLVED) return status;
+
+		IntMinHeap open = this.open;
+		int[] distance = this.distance;
+		SearchState state = this.state;
+		for (int i = 0; i < n; i++) {
+
+			// Take the most promising cell, skipping stale copies of cells that were already expanded
+			int cell;
+			do {
+				if (open.isEmpty()) {
+					// Nothing left to expand, so there is no way to reach the goal
+					status = Status.NO_SOLUTION;
+					return status;
+				}
+				cell = open.removeMin();
+			} while (state.isExplored(cell));
+
+			state.setExplored(cell, ++numCellsVisited);
+
+			int row = cell / columns;
+			int col = cell - row * columns;
+			if (row == goalRow && col == goalColumn) {
+				status = Status.SOLVED;
+				break;
+			}
+
+			// Add (or re-add, if we found a shorter way to them) all adjacent open cells to the frontier
+			int next = distance[cell] + 1;
+			if (row > 0) relax(cell, cell - columns, next);
+			if (row < rows - 1) relax(cell, cell + columns, next);
+			if (col > 0) relax(cell, cell - 1, next);
+			if (col < columns - 1) relax(cell, cell + 1, next);
+		}
+		return status;
+	}
+
+	/**
+	 * Utility method to add a cell to the frontier if it is open and this is the shortest way to it found so far
+	 *
+	 * @param from The index of the cell being expanded
+	 * @param cell The index of the cell
+	 * @param newDistance The distance from the start to the cell along the current path
+	 */
+	private void relax(int from, int cell, int newDistance) {
+		if (maze.isWall(cell) || state.isExplored(cell)) return;
+		if (state.isDiscovered(cell) && newDistance >= distance[cell]) {
+			// Already waiting on the frontier with a path at least as short
+			duplicatesAvoided++;
+			return;
+		}
+
+		distance[cell] = newDistance;
+		state.setDiscovered(cell);
+		setParent(cell, from);
+		open.add(cell, newDistance + estimate(cell));
+		updatePeakFrontierSize(open.size());
+	}
+
+	/**
+	 * Utility method to estimate the distance from a cell to the goal
+	 *
+	 * @param cell The index of the cell
+	 * @return The estimated distance to the goal
+	 */
+	private int estimate(int cell) {
+		int row = cell / columns;
+		int col = cell - row * columns;
+		return heuristic.estimate(Math.abs(row - goalRow), Math.abs(col - goalColumn));
+	}
+}
@@ -0,0 +1,217 @@
+/* *****************************************************************************
+ * Title:            BidirectionalSolver
+ * Files:            BidirectionalSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A MazeSolver that runs BFS from both the start and the goal
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A MazeSolver that runs two BFS searches at once, one forward from the start and one backward from
+ * the goal, until they meet in the middle. Each search only has to cover about half the distance, so
+ * on long corridors this explores roughly half as many cells as a single BFS.
+ *
+ * The searches take turns a whole BFS level at a time (one cell per step). When a cell being expanded
+ * touches a cell already reached by the other search, the rest of that level is still expanded so the
+ * shortest of all the meeting points found in it is the one kept; this makes the result a shortest path.
+ *
+ * While searching, each cell's parent is the cell its own search reached it from. Once solved, the
+ * parents on the goal's side of the meeting point are turned around so the whole path leads back to the start.
+ *
+ * @author Mickie Newman
+ *
+ */
+public class BidirectionalSolver extends MazeSolver {
+
+	// Which search is which, used to index the per-search arrays below
+	private static final int FROM_START = 0, FROM_GOAL = 1;
+
+	// The cells each search has reached, in the order they were reached. Every cell is added to
+	// at most one of these once, so each is sized to hold the whole maze.
+	private final int[][] queue = new int[2][];
+
+	// Position of the next cell to expand and the end of each queue
+	private final int[] head = new int[2], tail = new int[2];
+
+	// Where in each queue the BFS level currently being expanded ends
+	private final int[] levelEnd = new int[2];
+
+	// Which search is currently expanding cells
+	private int current;
+
+	// For each cell discovered by either search: depth+1 if the search from the start reached it, or
+	// -(depth+1) if the search from the goal did (cells the search state hasn't discovered count as 0,
+	// so this never needs clearing between searches)
+	private final int[] reached;
+
+	// The length of the shortest path found so far through a cell where the searches met (-1 if none)
+	private int shortestMeeting;
+
+	// The two neighboring cells, one reached from each end, that the shortest path found so far runs through
+	private int meetingFromStart, meetingFromGoal;
+
+	// The maze's dimensions and the index of the goal cell
+	private final int rows, columns, goal;
+
+	/**
+	 * Create a BidirectionalSolver for a given maze
+	 *
+	 * @param maze The maze the BidirectionalSolver will attempt to solve.
+	 */
+	public BidirectionalSolver(Maze maze)
+	{
+		this(new SearchState(maze));
+	}
+
+	/**
+	 * Create a BidirectionalSolver that records its search in an existing search state
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the BidirectionalSolver will solve
+	 */
+	public BidirectionalSolver(SearchState state)
+	{
+		super(state); // Call the MazeSolver constructor to initialize the maze instance variable
+
+		rows = maze.numRows();
+		columns = maze.numColumns();
+		goal = indexOf(maze.getGoalCell());
+		int numCells = (int) maze.numCells();
+		reached = new int[numCells];
+		queue[FROM_START] = new int[numCells];
+		queue[FROM_GOAL] = new int[numCells];
+		begin();
+	}
+
+	/**
+	 * Set up both searches for a new solve, one holding just the start cell and the other just the goal cell
+	 */
+	@Override
+	protected void begin() {
+		head[FROM_START] = tail[FROM_START] = levelEnd[FROM_START] = 0;
+		head[FROM_GOAL] = tail[FROM_GOAL] = levelEnd[FROM_GOAL] = 0;
+		current = FROM_START;
+		shortestMeeting = -1;
+
+		// Start one search at the start cell and the other at the goal cell
+		reach(FROM_START, indexOf(maze.getStartCell()), 0);
+		reach(FROM_GOAL, goal, 0);
+		levelEnd[FROM_START] = tail[FROM_START];
+		updatePeakFrontierSize(2);
+	}
+
+	/**
+	 * Step explores a single cell. If the cell is the goal, then return true. If it is apparent
+	 * that there is no possible solution, step should return false. Otherwise, step should mark the
+	 * cell as visited, determine which cells should be visited next, and return false.
+	 *
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached),
+	 * 		   false otherwise
+	 */
+	@Override
+	public boolean step() {
+		if (status == Status.SOLVED) return true;
+		if (status == Status.NO_SOLUTION) return false;
+
+		// At the end of a level, either stop (if the searches have met) or let the other search take a turn
+		if (head[current] == levelEnd[current]) {
+			if (shortestMeeting >= 0) {
+				joinPaths();
+				status = Status.SOLVED;
+				return true;
+			}
+
+			// If either search has run out of cells without meeting the other, the goal can't be reached
+			if (head[current] == tail[current]) {
+				status = Status.NO_SOLUTION;
+				return false;
+			}
+			current = 1 - current;
+			levelEnd[current] = tail[current];
+			if (head[current] == tail[current]) {
+				status = Status.NO_SOLUTION;
+				return false;
+			}
+		}
+
+		// Expand the next cell of the current search
+		int cell = queue[current][head[current]++];
+		state.setExplored(cell, ++numCellsVisited);
+
+		int depth = Math.abs(reached[cell]) - 1;
+		int row = cell / columns;
+		int col = cell - row * columns;
+		if (row > 0) visit(cell, cell - columns, depth + 1);
+		if (row < rows - 1) visit(cell, cell + columns, depth + 1);
+		if (col > 0) visit(cell, cell - 1, depth + 1);
+		if (col < columns - 1) visit(cell, cell + 1, depth + 1);
+
+		return false;
+	}
+
+	/**
+	 * Utility method to handle the current search reaching a neighboring cell: either queue it up for
+	 * the current search, or (if the other search got there first) record where the searches met
+	 *
+	 * @param from The index of the cell being expanded
+	 * @param cell The index of the neighboring cell
+	 * @param depth The distance of the neighboring cell from where the current search started
+	 */
+	private void visit(int from, int cell, int depth) {
+		if (maze.isWall(cell)) return;
+
+		int r = state.isDiscovered(cell) ? reached[cell] : 0;
+		if (r == 0) {
+			setParent(cell, from);
+			reach(current, cell, depth);
+			updatePeakFrontierSize(tail[FROM_START] - head[FROM_START] + tail[FROM_GOAL] - head[FROM_GOAL]);
+		}
+		else if ((r > 0) == (current == FROM_START)) {
+			// Already reached by this search, and still waiting in its queue if not expanded yet
+			if (!state.isExplored(cell)) duplicatesAvoided++;
+		}
+		else if ((r > 0) != (current == FROM_START)) {
+			// Reached by the other search: the path through here is this side's depth plus the other side's
+			int pathLength = depth + Math.abs(r) - 1;
+			if (shortestMeeting < 0 || pathLength < shortestMeeting) {
+				shortestMeeting = pathLength;
+				meetingFromStart = current == FROM_START ? from : cell;
+				meetingFromGoal = current == FROM_START ? cell : from;
+			}
+		}
+	}
+
+	/**
+	 * Utility method to reverse the parents from the meeting point back to the goal, so that following
+	 * parents from the goal leads through the meeting point to the start
+	 */
+	private void joinPaths() {
+		int previous = meetingFromStart;
+		int cell = meetingFromGoal;
+		while (cell != goal) {
+			int next = getParent(cell);
+			setParent(cell, previous);
+			previous = cell;
+			cell = next;
+		}
+		setParent(goal, previous);
+	}
+
+	/**
+	 * Utility method to mark a cell as reached by a search and add it to that search's queue
+	 *
+	 * @param side Which search reached the cell
+	 * @param cell The index of the cell
+	 * @param depth The distance of the cell from where the search started
+	 */
+	private void reach(int side, int cell, int depth) {
+		reached[cell] = side == FROM_START ? depth + 1 : -(depth + 1);
+		state.setDiscovered(cell);
+		queue[side][tail[side]++] = cell;
+	}
+}
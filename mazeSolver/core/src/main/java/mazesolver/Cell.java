@@ -0,0 +1,159 @@
+/* *****************************************************************************
+ * Title:            Cell
+ * Files:            Cell.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Daniel Szafir, daniel.szafir@colorado.edu
+ *
+ * Description:		 A Cell represents a single square in a maze
+ *
+ * Written:       	 3/21/2020
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A cell represents a single square in a 2D maze. Cells do not store any data themselves; a Cell
+ * is a lightweight, read-only view onto one square of the packed grid held by its Maze, so creating
+ * one is cheap. Whether a solver has explored a cell is kept in that solver's SearchState, not here.
+ *
+ * @author Daniel Szafir
+ */
+public class Cell {
+
+	/**
+	 * The possible types of cells
+	 *
+	 * @author Daniel Szafir
+	 */
+	public static enum Type {
+		WALL, OPEN, START, GOAL;
+	}
+
+	/**
+	 * The possible statuses of a cell within a search (see SearchState)
+	 *
+	 * @author Daniel Szafir
+	 */
+	public static enum Status {
+		UNEXPLORED, EXPLORED;
+	}
+
+	// Cached copy of Type.values() so decoding a packed cell doesn't allocate a new array each time
+	static final Type[] TYPES = Type.values();
+
+	// The maze this cell is a view onto
+	private final Maze maze;
+
+	// The location of this cell in the 2D maze
+	private final int row, column;
+
+	/**
+	 * Create a view onto a single cell of a maze. Cells are handed out by Maze.getCell rather
+	 * than created directly.
+	 *
+	 * @param maze The maze that holds the cell's data
+	 * @param row The row (y coordinate) of the cell
+	 * @param column The column (x coordinate) of the cell
+	 */
+	Cell(Maze maze, int row, int column) {
+		this.maze = maze;
+		this.row = row;
+		this.column = column;
+	}
+
+	/** The character marking an open cell that is on a solution path in a saved maze */
+	public static final char PATH_CHAR = '*';
+
+	/**
+	 * Get the cell type encoded by a character (i.e., for use when a maze file is loaded).
+	 *
+	 * @param c The character that aligns with the cell type. Should be one of the following:
+	 * 			# (wall cell)
+	 * 			. (open cell)
+	 * 			S (start cell)
+	 * 			G (goal cell)
+	 * 			* (open cell on a saved solution path)
+	 * @return The type of cell the character encodes
+	 */
+	public static Type typeOf(char c) {
+		if (c == '#') return Type.WALL;
+		else if (c == '.') return Type.OPEN;
+		else if (c == 'S') return Type.START;
+		else if (c == 'G') return Type.GOAL;
+		else if (c == PATH_CHAR) return Type.OPEN;
+		else throw new IllegalArgumentException("Error - unknown square type specified: " + c);
+	}
+
+	/**
+	 * Get the character encoding a cell type (i.e., for saving a maze to a file). This is the
+	 * inverse of typeOf.
+	 *
+	 * @param type The cell type
+	 * @return The character encoding the type
+	 */
+	public static char charOf(Type type) {
+		switch(type) {
+			case WALL: return '#';
+			case OPEN: return '.';
+			case START: return 'S';
+			case GOAL: return 'G';
+			default: return ' '; // shouldn't happen
+		}
+	}
+
+	/**
+	 * Get the type of this cell
+	 *
+	 * @return The cell's type
+	 */
+	public Type getType() {
+		return maze.getType(row, column);
+	}
+
+	/**
+	 * Get the row (y coordinate) of this cell within the maze
+	 *
+	 * @return The cell's row
+	 */
+	public int getRow() {
+		return row;
+	}
+
+	/**
+	 * Get the column (x coordinate) of this cell within the maze
+	 *
+	 * @return The cell's column
+	 */
+	public int getColumn() {
+		return column;
+	}
+
+	/**
+	 * Two cells are equal if they are views onto the same square of the same maze.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Cell)) return false;
+		Cell other = (Cell) o;
+		return maze == other.maze && row == other.row && column == other.column;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * row + column;
+	}
+
+	/**
+	 * Convert this cell to a String representation (i.e., for saving a maze to a file).
+	 * This method will return a String based on the cell type:
+	 *   Wall: #
+	 *   Open: .
+	 *   Start: S
+	 *   Goal: G
+	 */
+	public String toString() {
+		return String.valueOf(charOf(getType()));
+	}
+}
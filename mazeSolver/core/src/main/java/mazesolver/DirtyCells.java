@@ -0,0 +1,134 @@
+/* *****************************************************************************
+ * Title:            DirtyCells
+ * Files:            DirtyCells.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A record of which cells have changed since they were last drawn
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntConsumer;
+
+/**
+ * A record of which cells (by index, row * columns + column) have changed since they were last drawn,
+ * so a renderer can redraw just those cells instead of the whole maze. Whatever changes cells (a maze
+ * being generated, or a search state being explored) adds them, and the renderer drains them once per
+ * frame.
+ *
+ * The record holds at most a fixed number of cells. Past that, or when everything changes at once
+ * (e.g., a search being reset), it stops recording individual cells and just remembers that everything
+ * needs redrawing, which is cheaper than redrawing that many cells one at a time anyway.
+ *
+ * The record is also how changes are published from the thread making them (e.g., a maze generated in
+ * the background) to the thread drawing them, without any locks. It is a single-producer,
+ * single-consumer ring: one thread at a time may add cells, and one thread at a time may drain them.
+ * A cell must be changed before it is added; the index of the next free slot is then advanced with a
+ * release write, and draining reads it with an acquire read, so every change to a drained cell is
+ * visible to the drawing thread. Each cell is read in one piece (its type is a byte and its search
+ * status an int), so a drawn frame never shows a half-written cell. markAll can be called from any
+ * thread.
+ *
+ * The ring only carries indices, and cells are drawn from their live values, so a frame drawn while
+ * another thread is still changing cells is not a snapshot of one moment: when everything is redrawn
+ * (after markAll, or after the ring filled up) some cells may already show changes that haven't been
+ * drained yet, and others not. No change is ever lost, though, since every change is added after it is
+ * made and so is drawn again by a later frame. A frame is only a consistent picture of the cells once
+ * the thread changing them has stopped and handed them back (e.g., through Platform.runLater).
+ *
+ * @author Mickie Newman
+ */
+public final class DirtyCells {
+
+	// Atomic access to the fields shared between the adding and draining threads
+	private static final VarHandle HEAD, TAIL, ALL;
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(DirtyCells.class, "head", long.class);
+			TAIL = lookup.findVarHandle(DirtyCells.class, "tail", long.class);
+			ALL = lookup.findVarHandle(DirtyCells.class, "all", boolean.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	// The ring of changed cells (its length is a power of two), and the mask that maps a position to a slot
+	private final int[] cells;
+	private final int mask;
+
+	// How many cells have ever been drained (written only by the draining thread) and added (written only
+	// by the adding thread); the cells waiting to be drained are at positions head to tail - 1
+	private long head;
+	private long tail;
+
+	// The adding thread's last look at head, so it only has to read the real one when the ring seems full
+	private long cachedHead;
+
+	// Whether everything has changed since the last drain
+	private boolean all;
+
+	/**
+	 * Create an empty record of changed cells
+	 *
+	 * @param capacity The most cells to record individually before everything is redrawn instead (must be > 0;
+	 * 				   rounded up to a power of two)
+	 */
+	public DirtyCells(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("Error - dirty cell capacity "
+				+ "must be > 0 and <= " + (1 << 30) + ", not " + capacity);
+		this.cells = new int[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+		this.mask = cells.length - 1;
+	}
+
+	/**
+	 * Record that a cell has changed (only from the one thread adding cells)
+	 *
+	 * @param cell The index of the cell
+	 */
+	public void add(int cell) {
+		long position = tail;
+		if (position - cachedHead == cells.length) {
+			cachedHead = (long) HEAD.getAcquire(this);
+			if (position - cachedHead == cells.length) {
+				markAll();
+				return;
+			}
+		}
+		cells[(int) position & mask] = cell;
+		TAIL.setRelease(this, position + 1);
+	}
+
+	/**
+	 * Record that every cell has changed
+	 */
+	public void markAll() {
+		ALL.setRelease(this, true);
+	}
+
+	/**
+	 * Hand every cell changed since the last drain to an action (e.g., drawing it) and forget them (only
+	 * from the one thread draining cells). If everything has changed, no cells are handed over and the
+	 * caller should redraw everything.
+	 *
+	 * @param action What to do with each changed cell
+	 * @return True if everything has changed, false if just the cells handed to the action have
+	 */
+	public boolean drain(IntConsumer action) {
+		boolean everything = (boolean) ALL.getAndSet(this, false);
+		long end = (long) TAIL.getAcquire(this);
+		if (!everything) {
+			for (long position = head; position < end; position++) {
+				action.accept(cells[(int) position & mask]);
+			}
+		}
+		HEAD.setRelease(this, end);
+		return everything;
+	}
+}
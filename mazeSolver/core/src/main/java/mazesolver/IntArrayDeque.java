@@ -0,0 +1,147 @@
+/* *****************************************************************************
+ * Title:            IntArrayDeque
+ * Files:            IntArrayDeque.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A growable double-ended queue of ints
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A double-ended queue of int values (e.g., cell indices) backed by a circular int array whose length
+ * is always a power of two, so wrapping around is a single mask. Unlike a LinkedList there is no node
+ * per entry and nothing is boxed, so adding and removing values doesn't allocate once the array has
+ * grown large enough.
+ *
+ * @author Mickie Newman
+ */
+public final class IntArrayDeque {
+
+	// The values in the deque, starting at head and wrapping around the end of the array
+	private int[] values;
+
+	// The position of the first value, and the number of values
+	private int head, size;
+
+	/**
+	 * Create an empty deque
+	 */
+	public IntArrayDeque() {
+		this(64);
+	}
+
+	/**
+	 * Create an empty deque with room for a given number of values before it needs to grow
+	 *
+	 * @param capacity The number of values to make room for (must be > 0). This is rounded up to a
+	 * 				   power of two.
+	 */
+	public IntArrayDeque(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("Error - deque capacity must be "
+				+ "between 1 and " + (1 << 30));
+		int length = 1;
+		while (length < capacity) length <<= 1;
+		values = new int[length];
+	}
+
+	/**
+	 * Check whether the deque is empty
+	 *
+	 * @return True if there are no values in the deque, false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the number of values in the deque
+	 *
+	 * @return The number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Remove all values from the deque
+	 */
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Add a value to the end of the deque
+	 *
+	 * @param value The value to add
+	 */
+	public void addLast(int value) {
+		if (size == values.length) grow();
+		values[(head + size) & (values.length - 1)] = value;
+		size++;
+	}
+
+	/**
+	 * Add a value to the front of the deque
+	 *
+	 * @param value The value to add
+	 */
+	public void addFirst(int value) {
+		if (size == values.length) grow();
+		head = (head - 1) & (values.length - 1);
+		values[head] = value;
+		size++;
+	}
+
+	/**
+	 * Get the value at the front of the deque without removing it
+	 *
+	 * @return The value at the front of the deque
+	 */
+	public int peekFirst() {
+		if (size == 0) throw new IllegalStateException("Error - deque is empty");
+		return values[head];
+	}
+
+	/**
+	 * Remove the value at the front of the deque
+	 *
+	 * @return The value that was at the front of the deque
+	 */
+	public int removeFirst() {
+		if (size == 0) throw new IllegalStateException("Error - deque is empty");
+		int value = values[head];
+		head = (head + 1) & (values.length - 1);
+		size--;
+		return value;
+	}
+
+	/**
+	 * Remove the value at the end of the deque
+	 *
+	 * @return The value that was at the end of the deque
+	 */
+	public int removeLast() {
+		if (size == 0) throw new IllegalStateException("Error - deque is empty");
+		size--;
+		return values[(head + size) & (values.length - 1)];
+	}
+
+	/**
+	 * Utility method to double the size of the array, unwrapping the values so they start at 0
+	 */
+	private void grow() {
+		if (values.length == 1 << 30) throw new IllegalStateException("Error - deque is full");
+		int[] grown = new int[values.length * 2];
+		int firstPart = Math.min(size, values.length - head);
+		System.arraycopy(values, head, grown, 0, firstPart);
+		System.arraycopy(values, 0, grown, firstPart, size - firstPart);
+		values = grown;
+		head = 0;
+	}
+}
@@ -0,0 +1,132 @@
+/* *****************************************************************************
+ * Title:            IntMinHeap
+ * Files:            IntMinHeap.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A binary min-heap of ints ordered by int priorities
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of int values (e.g., cell indices) ordered by non-negative int priorities. Each
+ * entry is packed into a single long (priority in the high 32 bits, value in the low 32 bits), so the
+ * heap is one growable long array: nothing is boxed and adding or removing entries doesn't allocate
+ * once the array has grown large enough. Entries with equal priorities come out lowest value first.
+ *
+ * There is no decrease-key operation. Instead, a solver that finds a better priority for a value
+ * simply adds it again and skips the stale copy when it comes out of the heap later.
+ *
+ * @author Mickie Newman
+ */
+public final class IntMinHeap {
+
+	// The most entries the heap can hold (the same limit as IntArrayDeque and IntStack)
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	// The heap entries, packed as (priority << 32) | value
+	private long[] heap;
+
+	// The number of entries in the heap
+	private int size;
+
+	/**
+	 * Create an empty heap
+	 */
+	public IntMinHeap() {
+		heap = new long[64];
+	}
+
+	/**
+	 * Check whether the heap is empty
+	 *
+	 * @return True if there are no entries in the heap, false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the number of entries in the heap
+	 *
+	 * @return The number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Remove all entries from the heap
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Add a value to the heap
+	 *
+	 * @param value The value to add (must be >= 0)
+	 * @param priority The value's priority, where lower priorities come out first (must be >= 0)
+	 */
+	public void add(int value, int priority) {
+		if (value < 0 || priority < 0) throw new IllegalArgumentException("Error - heap values and "
+				+ "priorities must be >= 0");
+
+		if (size == heap.length) {
+			if (size == MAX_CAPACITY) throw new IllegalStateException("Error - heap is full");
+			heap = Arrays.copyOf(heap, (int) Math.min(size * 2L, MAX_CAPACITY));
+		}
+
+		// Sift the new entry up from the bottom of the heap
+		long entry = ((long) priority << 32) | value;
+		int i = size++;
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (heap[parent] <= entry) break;
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = entry;
+	}
+
+	/**
+	 * Get the priority of the value that would be removed next
+	 *
+	 * @return The lowest priority in the heap
+	 */
+	public int peekPriority() {
+		if (size == 0) throw new IllegalStateException("Error - heap is empty");
+		return (int) (heap[0] >>> 32);
+	}
+
+	/**
+	 * Remove the value with the lowest priority from the heap
+	 *
+	 * @return The value with the lowest priority
+	 */
+	public int removeMin() {
+		if (size == 0) throw new IllegalStateException("Error - heap is empty");
+
+		int min = (int) heap[0];
+		long last = heap[--size];
+
+		// Sift the last entry down from the top of the heap
+		int i = 0;
+		int half = size >>> 1;
+		while (i < half) {
+			int child = 2*i + 1;
+			if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+			if (last <= heap[child]) break;
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = last;
+		return min;
+	}
+}
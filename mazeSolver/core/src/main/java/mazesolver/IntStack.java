@@ -0,0 +1,115 @@
+/* *****************************************************************************
+ * Title:            IntStack
+ * Files:            IntStack.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A growable stack of ints
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.util.Arrays;
+
+/**
+ * A last-in first-out stack of int values (e.g., cell indices) backed by a single growable int array.
+ * Unlike java.util.Stack, nothing is boxed and no method is synchronized, and pushing and popping
+ * don't allocate once the array has grown large enough.
+ *
+ * @author Mickie Newman
+ */
+public final class IntStack {
+
+	// The most values the stack can hold (the same limit as IntArrayDeque)
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	// The values on the stack, from the bottom up
+	private int[] values;
+
+	// The number of values on the stack
+	private int size;
+
+	/**
+	 * Create an empty stack
+	 */
+	public IntStack() {
+		this(64);
+	}
+
+	/**
+	 * Create an empty stack with room for a given number of values before it needs to grow
+	 *
+	 * @param capacity The number of values to make room for (must be > 0)
+	 */
+	public IntStack(int capacity) {
+		if (capacity <= 0 || capacity > MAX_CAPACITY) throw new IllegalArgumentException("Error - stack capacity must be "
+				+ "between 1 and " + MAX_CAPACITY);
+		values = new int[capacity];
+	}
+
+	/**
+	 * Check whether the stack is empty
+	 *
+	 * @return True if there are no values on the stack, false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Get the number of values on the stack
+	 *
+	 * @return The number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Remove all values from the stack
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Push a value onto the top of the stack
+	 *
+	 * @param value The value to push
+	 */
+	public void push(int value) {
+		if (size == values.length) grow();
+		values[size++] = value;
+	}
+
+	/**
+	 * Get the value on the top of the stack without removing it
+	 *
+	 * @return The value on the top of the stack
+	 */
+	public int peek() {
+		if (size == 0) throw new IllegalStateException("Error - stack is empty");
+		return values[size - 1];
+	}
+
+	/**
+	 * Remove the value on the top of the stack
+	 *
+	 * @return The value that was on the top of the stack
+	 */
+	public int pop() {
+		if (size == 0) throw new IllegalStateException("Error - stack is empty");
+		return values[--size];
+	}
+
+	/**
+	 * Utility method to double the size of the array, up to the most values the stack can hold
+	 */
+	private void grow() {
+		if (values.length == MAX_CAPACITY) throw new IllegalStateException("Error - stack is full");
+		values = Arrays.copyOf(values, (int) Math.min(values.length * 2L, MAX_CAPACITY));
+	}
+}
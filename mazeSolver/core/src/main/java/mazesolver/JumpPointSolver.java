@@ -0,0 +1,270 @@
+/* *****************************************************************************
+ * Title:            JumpPointSolver
+ * Files:            JumpPointSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A MazeSolver that uses Jump Point Search
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A MazeSolver that uses Jump Point Search (the variant for grids without diagonal moves). It is A*
+ * with the Manhattan distance heuristic, except that instead of adding every open neighbor to the
+ * frontier it "jumps" in a straight line over runs of open cells, only stopping at cells where the
+ * shortest path might need to turn (jump points). In mostly open mazes this puts far fewer cells on
+ * the frontier, while still finding a shortest path.
+ *
+ * Shortest paths are assumed to take their vertical moves as early as possible, so:
+ *  - a horizontal jump stops at the goal or at a cell whose vertical neighbor was walled off one cell
+ *    earlier (so the path may have had to come along the wall before turning);
+ *  - a vertical jump stops at the goal or at any cell from which a horizontal jump finds a jump point;
+ *  - a jump point reached horizontally continues horizontally (plus any vertical turn it was stopped
+ *    for), and one reached vertically continues vertically and also tries both horizontal directions.
+ *
+ * Each step expands one jump point, so getCellsVisited counts jump points rather than every cell. Only
+ * jump points record a parent; getSolutionPath fills in the straight runs between them.
+ *
+ * @author Mickie Newman
+ *
+ */
+public class JumpPointSolver extends MazeSolver {
+
+	// The direction a jump point was reached from (NONE for the start cell)
+	private static final byte NONE = 0, RIGHT = 1, LEFT = 2, DOWN = 3, UP = 4;
+
+	// The jump points waiting to be expanded, ordered by estimated total path length
+	private final IntMinHeap open = new IntMinHeap();
+
+	// The shortest known distance from the start to each discovered jump point (the search state says
+	// which cells are discovered, so this never needs clearing between searches)
+	private final int[] distance;
+
+	// The direction each jump point was reached from along its shortest known path
+	private final byte[] arrival;
+
+	// The maze's dimensions and the location of the goal
+	private final int rows, columns, goalRow, goalColumn, goal;
+
+	/**
+	 * Create a JumpPointSolver for a given maze
+	 *
+	 * @param maze The maze the JumpPointSolver will attempt to solve.
+	 */
+	public JumpPointSolver(Maze maze)
+	{
+		this(new SearchState(maze));
+	}
+
+	/**
+	 * Create a JumpPointSolver that records its search in an existing search state
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the JumpPointSolver will solve
+	 */
+	public JumpPointSolver(SearchState state)
+	{
+		super(state); // Call the MazeSolver constructor to initialize the maze instance variable
+
+		rows = maze.numRows();
+		columns = maze.numColumns();
+		goalRow = maze.getGoalCell().getRow();
+		goalColumn = maze.getGoalCell().getColumn();
+		goal = goalRow * columns + goalColumn;
+
+		distance = new int[(int) maze.numCells()];
+		arrival = new byte[(int) maze.numCells()];
+		begin();
+	}
+
+	/**
+	 * Set up the frontier for a new search, holding just the starting cell
+	 */
+	@Override
+	protected void begin() {
+		open.clear();
+
+		// Add the starting cell of the maze to the frontier
+		Cell start = maze.getStartCell();
+		int startIndex = start.getRow() * columns + start.getColumn();
+		distance[startIndex] = 0;
+		arrival[startIndex] = NONE;
+		state.setDiscovered(startIndex);
+		open.add(startIndex, estimate(startIndex));
+		updatePeakFrontierSize(open.size());
+	}
+
+	/**
+	 * Step explores a single jump point. If the cell is the goal, then return true. If it is apparent
+	 * that there is no possible solution, step should return false. Otherwise, step should mark the
+	 * cell as visited, determine which cells should be visited next, and return false.
+	 *
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached),
+	 * 		   false otherwise
+	 */
+	@Override
+	public boolean step() {
+		if (status == Status.SOLVED) return true;
+		if (status == Status.NO_SOLUTION) return false;
+
+		while (!open.isEmpty()) {
+
+			// Take the most promising jump point, skipping stale copies of ones that were already expanded
+			int cell = open.removeMin();
+			if (state.isExplored(cell)) continue;
+
+			state.setExplored(cell, ++numCellsVisited);
+
+			if (cell == goal) {
+				status = Status.SOLVED;
+				return true;
+			}
+
+			int row = cell / columns;
+			int col = cell - row * columns;
+			switch (arrival[cell]) {
+				case NONE:
+					jumpHorizontally(cell, row, col, 1);
+					jumpHorizontally(cell, row, col, -1);
+					jumpVertically(cell, row, col, 1);
+					jumpVertically(cell, row, col, -1);
+					break;
+
+				case RIGHT:
+				case LEFT:
+					int dc = arrival[cell] == RIGHT ? 1 : -1;
+					jumpHorizontally(cell, row, col, dc);
+					if (isForced(row, col, -1, dc)) jumpVertically(cell, row, col, -1);
+					if (isForced(row, col, 1, dc)) jumpVertically(cell, row, col, 1);
+					break;
+
+				case DOWN:
+				case UP:
+					jumpVertically(cell, row, col, arrival[cell] == DOWN ? 1 : -1);
+					jumpHorizontally(cell, row, col, 1);
+					jumpHorizontally(cell, row, col, -1);
+					break;
+			}
+			return false;
+		}
+
+		// Nothing left to expand, so there is no way to reach the goal
+		status = Status.NO_SOLUTION;
+		return false;
+	}
+
+	/**
+	 * Utility method to jump horizontally from a jump point and add the jump point found (if any) to the frontier
+	 *
+	 * @param from The index of the jump point being expanded
+	 * @param row The row of the jump point
+	 * @param col The column of the jump point
+	 * @param dc The direction to jump in (1 for right, -1 for left)
+	 */
+	private void jumpHorizontally(int from, int row, int col, int dc) {
+		int c = scanHorizontally(row, col, dc);
+		if (c >= 0) relax(from, row * columns + c, distance[from] + Math.abs(c - col), dc == 1 ? RIGHT : LEFT);
+	}
+
+	/**
+	 * Utility method to jump vertically from a jump point and add the jump point found (if any) to the frontier
+	 *
+	 * @param from The index of the jump point being expanded
+	 * @param row The row of the jump point
+	 * @param col The column of the jump point
+	 * @param dr The direction to jump in (1 for down, -1 for up)
+	 */
+	private void jumpVertically(int from, int row, int col, int dr) {
+		int r = scanVertically(row, col, dr);
+		if (r >= 0) relax(from, r * columns + col, distance[from] + Math.abs(r - row), dr == 1 ? DOWN : UP);
+	}
+
+	/**
+	 * Move along a row from a cell until reaching a jump point or a wall
+	 *
+	 * @param row The row to move along
+	 * @param col The column to start from
+	 * @param dc The direction to move in (1 for right, -1 for left)
+	 * @return The column of the jump point, or -1 if a wall or the edge of the maze is reached first
+	 */
+	private int scanHorizontally(int row, int col, int dc) {
+		while (true) {
+			col += dc;
+			if (col < 0 || col >= columns || maze.isWall(row * columns + col)) return -1;
+			if (row == goalRow && col == goalColumn) return col;
+			if (isForced(row, col, -1, dc) || isForced(row, col, 1, dc)) return col;
+		}
+	}
+
+	/**
+	 * Move along a column from a cell until reaching a jump point or a wall
+	 *
+	 * @param row The row to start from
+	 * @param col The column to move along
+	 * @param dr The direction to move in (1 for down, -1 for up)
+	 * @return The row of the jump point, or -1 if a wall or the edge of the maze is reached first
+	 */
+	private int scanVertically(int row, int col, int dr) {
+		while (true) {
+			row += dr;
+			if (row < 0 || row >= rows || maze.isWall(row * columns + col)) return -1;
+			if (row == goalRow && col == goalColumn) return row;
+			if (scanHorizontally(row, col, 1) >= 0 || scanHorizontally(row, col, -1) >= 0) return row;
+		}
+	}
+
+	/**
+	 * Check whether a cell reached by moving horizontally has a forced vertical neighbor, i.e., the
+	 * neighbor is open but the cell next to it that we just came past is a wall
+	 *
+	 * @param row The row of the cell
+	 * @param col The column of the cell
+	 * @param dr Which vertical neighbor to check (1 for below, -1 for above)
+	 * @param dc The direction we were moving in (1 for right, -1 for left)
+	 * @return True if the vertical neighbor is forced, false otherwise
+	 */
+	private boolean isForced(int row, int col, int dr, int dc) {
+		int r = row + dr;
+		if (r < 0 || r >= rows) return false;
+		return !maze.isWall(r * columns + col) && maze.isWall(r * columns + col - dc);
+	}
+
+	/**
+	 * Utility method to add a jump point to the frontier if this is the shortest way to it found so far
+	 *
+	 * @param from The index of the jump point being expanded
+	 * @param cell The index of the jump point
+	 * @param newDistance The distance from the start to the jump point along the current path
+	 * @param direction The direction the jump point was reached from
+	 */
+	private void relax(int from, int cell, int newDistance, byte direction) {
+		if (state.isExplored(cell)) return;
+		if (state.isDiscovered(cell) && newDistance >= distance[cell]) {
+			// Already waiting on the frontier with a path at least as short
+			duplicatesAvoided++;
+			return;
+		}
+
+		distance[cell] = newDistance;
+		state.setDiscovered(cell);
+		setParent(cell, from);
+		arrival[cell] = direction;
+		open.add(cell, newDistance + estimate(cell));
+		updatePeakFrontierSize(open.size());
+	}
+
+	/**
+	 * Utility method to estimate the (Manhattan) distance from a cell to the goal
+	 *
+	 * @param cell The index of the cell
+	 * @return The estimated distance to the goal
+	 */
+	private int estimate(int cell) {
+		int row = cell / columns;
+		int col = cell - row * columns;
+		return Math.abs(row - goalRow) + Math.abs(col - goalColumn);
+	}
+}
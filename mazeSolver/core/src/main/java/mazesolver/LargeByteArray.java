@@ -0,0 +1,127 @@
+/* *****************************************************************************
+ * Title:            LargeByteArray
+ * Files:            LargeByteArray.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A fixed-length byte array indexed by a long
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A fixed-length array of bytes that is indexed by a long rather than an int, so it can hold more
+ * than Integer.MAX_VALUE elements. The bytes are stored in chunks of at most 2^30 elements each;
+ * anything that fits in a single chunk (i.e., every maze up to about a billion cells) is backed
+ * by exactly one plain byte array.
+ *
+ * @author Mickie Newman
+ */
+public final class LargeByteArray {
+
+	// Each chunk holds 2^CHUNK_SHIFT bytes
+	private static final int CHUNK_SHIFT = 30;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+	// The chunks of data, all full size except possibly the last one
+	private final byte[][] chunks;
+
+	// The number of bytes in the array
+	private final long length;
+
+	/**
+	 * Create a new array of bytes, all initially zero
+	 *
+	 * @param length The number of bytes in the array
+	 */
+	public LargeByteArray(long length) {
+		if (length < 0) throw new IllegalArgumentException("Error - array length must be >= 0");
+
+		this.length = length;
+		int numChunks = (int) ((length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+		chunks = new byte[numChunks][];
+		for (int i = 0; i < numChunks; i++) {
+			long remaining = length - ((long) i << CHUNK_SHIFT);
+			chunks[i] = new byte[(int) Math.min(remaining, CHUNK_SIZE)];
+		}
+	}
+
+	/**
+	 * Get the number of bytes in the array
+	 *
+	 * @return The array's length
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Get the byte at a given index
+	 *
+	 * @param index The index of the byte to get
+	 * @return The byte at that index
+	 */
+	public byte get(long index) {
+		return chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+	}
+
+	/**
+	 * Copy a run of bytes from this array into a plain array
+	 *
+	 * @param index The index of the first byte to copy
+	 * @param destination The array to copy into
+	 * @param to The position in destination to copy the first byte to
+	 * @param count The number of bytes to copy
+	 */
+	public void get(long index, byte[] destination, int to, int count) {
+		if (index < 0 || count < 0 || index > length - count) throw new IndexOutOfBoundsException("Error - cannot copy "
+				+ count + " bytes from index " + index + " of an array of length " + length);
+
+		// The run may straddle the boundary between two chunks
+		while (count > 0) {
+			int offset = (int) (index & CHUNK_MASK);
+			int n = Math.min(count, CHUNK_SIZE - offset);
+			System.arraycopy(chunks[(int) (index >>> CHUNK_SHIFT)], offset, destination, to, n);
+			index += n;
+			to += n;
+			count -= n;
+		}
+	}
+
+	/**
+	 * Set the byte at a given index
+	 *
+	 * @param index The index of the byte to set
+	 * @param value The new value of the byte
+	 */
+	public void set(long index, byte value) {
+		chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)] = value;
+	}
+
+	/**
+	 * Copy a run of bytes from a plain array into this array
+	 *
+	 * @param index The index to copy the first byte to
+	 * @param source The array to copy from
+	 * @param from The position in source of the first byte to copy
+	 * @param count The number of bytes to copy
+	 */
+	public void set(long index, byte[] source, int from, int count) {
+		if (index < 0 || count < 0 || index > length - count) throw new IndexOutOfBoundsException("Error - cannot copy "
+				+ count + " bytes to index " + index + " of an array of length " + length);
+
+		// The run may straddle the boundary between two chunks
+		while (count > 0) {
+			int offset = (int) (index & CHUNK_MASK);
+			int n = Math.min(count, CHUNK_SIZE - offset);
+			System.arraycopy(source, from, chunks[(int) (index >>> CHUNK_SHIFT)], offset, n);
+			index += n;
+			from += n;
+			count -= n;
+		}
+	}
+}
@@ -0,0 +1,671 @@
+/* *****************************************************************************
+ * Title:            Maze
+ * Files:            Maze.java
+ * Semester:         Spring 2021
+ * 
+ * Author:           Daniel Szafir, daniel.szafir@colorado.edu
+ * 
+ * Description:		 A Maze consists of a 2D array of Cells
+ * 
+ * Written:       	 3/21/2020
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A Maze is a 2D grid of Cells. To keep memory use down, the grid is stored as a single packed byte
+ * array (one byte per cell holding its type). Cell objects are just views onto this storage that are
+ * created on demand by getCell.
+ * 
+ * Once it has been generated or loaded, a maze never changes. Solvers keep what they have explored
+ * in their own SearchState instead, so any number of solvers can share (and run at once on) one maze.
+ * 
+ * @author Daniel Szafir
+ */
+public class Maze {
+	
+	/**
+	 * Utility enum for representing the various directions in a maze (i.e., no diagonals)
+	 * 
+	 * @author Daniel Szafir
+	 */
+	public static enum Direction {
+		RIGHT, LEFT, UP, DOWN;
+	}
+
+	// How long (in milliseconds) animations of generating or solving a maze pause after each cell so
+	// that the GUI can draw it. Lower values will result in faster drawing speeds.
+	public static final int DRAWING_SPEED = 5;
+
+	// Default, max, and min values for maze size
+	public static final int DEFAULT_ROWS = 20;
+	public static final int DEFAULT_COLUMNS = 20;
+	public static final int MIN_ROWS = 10;
+	public static final int MIN_COLUMNS = 10;
+	// (a maze this large can be generated, loaded, and saved, but solving it or tracking its changes
+	// identifies cells by an int index, so those need a maze of at most Integer.MAX_VALUE cells)
+	public static final int MAX_ROWS = Integer.MAX_VALUE;
+	public static final int MAX_COLUMNS = Integer.MAX_VALUE;
+	
+	/** The file extension used for mazes saved in the binary format */
+	public static final String BINARY_EXTENSION = ".mazb";
+	
+	// The largest maze the GUI will offer to generate, since beyond this cells become too small to see
+	public static final int MAX_DISPLAY_ROWS = 100;
+	public static final int MAX_DISPLAY_COLUMNS = 100;
+	
+	// The number of rows and columns of this maze
+	private int rows, columns;
+	
+	// Layout of each byte in the packed cell array: the low two bits hold the ordinal of the cell's Type
+	private static final int TYPE_MASK = 0x3;
+	
+	// The core maze data structure: one byte per cell, stored row by row. This is indexed by a long
+	// so that mazes with more than Integer.MAX_VALUE cells can be represented.
+	private LargeByteArray cells;
+	
+	// Keep track of the starting cell (a MazeSolver will need this)
+	private int startRow, startColumn;
+	
+	// Keep track of the goal cell (set while generating or loading the maze)
+	private int goalRow, goalColumn;
+	
+	// Who is told about each cell changed while the maze is generated (null if nobody, or once it is done)
+	private MazeGenerator.Listener listener;
+	
+	// Where cells changed while generating are recorded so a GUI can draw just those (null if nobody is watching)
+	private DirtyCells changes;
+	
+	// The source of randomness used to generate the maze
+	private SplittableRandom random;
+	
+	// Cached copy of Direction.values() for decoding packed direction orders
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	/**
+	 * Create a new maze with a given number of rows and columns, generating it on the calling thread
+	 * without any pauses. Use this when no GUI is watching (e.g., for batch jobs or very large mazes).
+	 * 
+	 * @param rows The number of rows for the maze
+	 * @param columns The number of columns for the maze
+	 * @param ensureSolveable Whether or not to ensure the maze has a solution
+	 */
+	public Maze(int rows, int columns, boolean ensureSolveable)
+	{
+		this(rows, columns, algorithm(ensureSolveable), new SplittableRandom(), null);
+	}
+
+	/**
+	 * Create a new maze with a given number of rows and columns, generating it on the calling thread
+	 * without any pauses. The same seed always produces the same maze.
+	 * 
+	 * @param rows The number of rows for the maze
+	 * @param columns The number of columns for the maze
+	 * @param ensureSolveable Whether or not to ensure the maze has a solution
+	 * @param seed The seed for the random generator used to carve out the maze
+	 */
+	public Maze(int rows, int columns, boolean ensureSolveable, long seed)
+	{
+		this(rows, columns, algorithm(ensureSolveable), new SplittableRandom(seed), null);
+	}
+
+	/**
+	 * Create a new maze with a given number of rows and columns, generating it on the calling thread
+	 * (see MazeGenerator).
+	 * 
+	 * @param rows The number of rows for the maze
+	 * @param columns The number of columns for the maze
+	 * @param algorithm How to generate the maze
+	 * @param random The source of randomness used to generate the maze
+	 * @param listener Who to tell about each cell changed while generating (e.g., to animate it), or null
+	 */
+	Maze(int rows, int columns, MazeGenerator.Algorithm algorithm, SplittableRandom random, MazeGenerator.Listener listener)
+	{
+		this(rows, columns, random);
+		
+		this.listener = listener;
+		if (listener != null) listener.started(this);
+		
+		if (algorithm == MazeGenerator.Algorithm.DEPTH_FIRST) generateSolveableMaze();
+		else generateRandomMaze();
+		
+		this.listener = null;
+	}
+
+	/**
+	 * Utility method to get the algorithm the older constructors generate mazes with
+	 * 
+	 * @param ensureSolveable Whether or not to ensure the maze has a solution
+	 * @return The algorithm
+	 */
+	private static MazeGenerator.Algorithm algorithm(boolean ensureSolveable)
+	{
+		return ensureSolveable ? MazeGenerator.Algorithm.DEPTH_FIRST : MazeGenerator.Algorithm.RANDOM;
+	}
+
+	/**
+	 * Create a new maze of a given size where every cell is a wall
+	 * 
+	 * @param rows The number of rows for the maze
+	 * @param columns The number of columns for the maze
+	 * @param random The source of randomness used to carve out the maze
+	 */
+	private Maze(int rows, int columns, SplittableRandom random)
+	{
+		if (rows < MIN_ROWS) throw new IllegalArgumentException("Error - specified rows" + rows + " is less than "
+				+ "minimum allowable number of rows " + MIN_ROWS);
+		if (columns < MIN_COLUMNS) throw new IllegalArgumentException("Error - specified columns" + columns + " is less than "
+				+ "minimum allowable number of columns " + MIN_COLUMNS);
+		
+		this.rows = rows;
+		this.columns = columns;
+		this.random = random;
+		
+		// Start with everything a wall (WALL is the first Type, so a freshly zeroed array is all walls)
+		cells = new LargeByteArray((long) rows * columns);
+	}
+
+	/**
+	 * Generate a Maze from a file, in either the text format or the binary format (which is detected
+	 * from the start of the file)
+	 * 
+	 * @param file The file containing the maze. A text file must provide the number of columns and rows on the
+	 * 			   first line and then each subsequent line a series of characters encoding each cell of the maze
+	 * 
+	 * @throws IOException If an issue occurs loading the maze from the file
+	 */
+	public Maze(File file) throws IOException
+	{
+		this(read(file));
+	}
+
+	/**
+	 * Create a maze from cells that have already been decoded (e.g., by a maze file reader)
+	 * 
+	 * @param rows The number of rows in the maze
+	 * @param columns The number of columns in the maze
+	 * @param cells The packed cells, one byte per cell holding its type, stored row by row
+	 * @param startRow The row of the start cell
+	 * @param startColumn The column of the start cell
+	 * @param goalRow The row of the goal cell
+	 * @param goalColumn The column of the goal cell
+	 */
+	Maze(int rows, int columns, LargeByteArray cells, int startRow, int startColumn, int goalRow, int goalColumn)
+	{
+		if (cells.length() != (long) rows * columns) throw new IllegalArgumentException("Error - " + cells.length()
+				+ " cells given for a maze of " + rows + " rows and " + columns + " columns");
+		
+		this.rows = rows;
+		this.columns = columns;
+		this.cells = cells;
+		this.startRow = startRow;
+		this.startColumn = startColumn;
+		this.goalRow = goalRow;
+		this.goalColumn = goalColumn;
+	}
+
+	/**
+	 * Utility method to load a maze from a file with the reader for the file's format
+	 * 
+	 * @param file The file containing the maze
+	 * @return The loaded maze
+	 * @throws IOException If an issue occurs loading the maze from the file
+	 */
+	private static Maze read(File file) throws IOException
+	{
+		if (file == null) throw new IllegalArgumentException("Error - cannot create maze, "
+				+ "null file specified");
+		
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			
+			// Binary files start with a magic number, which no text file can (their first line is numbers)
+			ByteBuffer start = ByteBuffer.allocate(MazeBinaryWriter.MAGIC.length);
+			while (start.hasRemaining() && channel.read(start) >= 0);
+			channel.position(0);
+			
+			if (MazeBinaryReader.isBinary(start.array(), start.position())) {
+				return MazeBinaryReader.read(new BufferedInputStream(Channels.newInputStream(channel)), file.toString());
+			}
+			return MazeTextReader.read(channel, file.toString());
+		}
+	}
+
+	/**
+	 * Utility constructor to take over a maze that has just been loaded, so that public constructors can
+	 * hand loading off to a reader. Mazes never change once loaded, so the cells are shared, not copied.
+	 * 
+	 * @param loaded The loaded maze
+	 */
+	private Maze(Maze loaded)
+	{
+		this(loaded.rows, loaded.columns, loaded.cells, loaded.startRow, loaded.startColumn, loaded.goalRow,
+				loaded.goalColumn);
+	}
+
+	/**
+	 * Generate a maze with a guaranteed solution by generating a random starting location
+	 * and carving out the maze from there.
+	 */
+	private void generateSolveableMaze()
+	{
+		// Choose a random start location that has a buffer
+		// of at least 2 cells from the border in any direction
+		// (i.e., range of starting row = [2, #rows-2], starting col = [2, #cols-2])
+		int startRow = random.nextInt(rows-4) + 2;
+		int startCol = random.nextInt(columns-4) + 2;
+		
+		// Set the starting position
+		setStart(startRow, startCol);
+
+		// Generate the maze, starting with the start position
+		carveFrom(startRow, startCol);
+
+		// Set the goal location based whatever path had the greatest depth
+		setType(goalRow, goalColumn, Cell.Type.GOAL);
+	}
+
+	/**
+	 * Carve out a maze depth-first from a starting cell. Each cell is "opened" (i.e., turned from a wall
+	 * cell to an open cell) and then its neighbors are checked in random order, opening a neighbor too 
+	 * (and continuing from there) if it has 3 wall cells around it. The deepest cell reached becomes the goal.
+	 * 
+	 * This uses an explicit stack rather than recursion so that the call stack stays the same size no matter
+	 * how long the carved paths get. Each stack entry packs a cell's index together with the random order
+	 * its neighbors are visited in and how many of them have been tried so far, so the depth of a cell is
+	 * simply the size of the stack when it is opened.
+	 * 
+	 * The entries are longs rather than ints because a maze can have more than Integer.MAX_VALUE cells
+	 * (its cells are a LargeByteArray), so cell indices (and the stack) can outgrow an int. The index
+	 * takes the top 53 bits of an entry, which is far more cells than any maze that fits in memory.
+	 * 
+	 * @param row The row of the cell to start carving from
+	 * @param col The column of the cell to start carving from
+	 */
+	private void carveFrom(int row, int col) {
+		long[] stack = new long[1024];
+		int size = 0;
+		int maxDepthSeen = 0;
+		
+		long next = index(row, col);
+		while (true) {
+			
+			// Open the next cell, marking it as the goal if it is the deepest we've been so far
+			if (next >= 0) {
+				int depth = size + 1;
+				int r = (int) (next / columns), c = (int) (next % columns);
+				if (depth > maxDepthSeen) {
+					maxDepthSeen = depth;
+					goalRow = r;
+					goalColumn = c;
+				}
+				
+				if ((cells.get(next) & TYPE_MASK) != Cell.Type.START.ordinal()) {
+					cells.set(next, (byte) Cell.Type.OPEN.ordinal());
+					if (changes != null) changes.add((int) next);
+					if (listener != null) listener.cellChanged(this, r, c);
+				}
+				
+				// Only cells inside the border get to open their neighbors
+				if (r > 0 && c > 0 && r < rows-1 && c < columns-1) {
+					if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+					stack[size++] = (next << 11) | (randomDirectionOrder() << 3);
+				}
+				next = -1;
+			}
+			
+			if (size == 0) return;
+			
+			// Try the next direction from the cell on top of the stack, or backtrack if all 4 have been tried
+			long top = stack[size-1];
+			int tried = (int) (top & 0x7);
+			if (tried == 4) {
+				size--;
+				continue;
+			}
+			stack[size-1] = top + 1;
+			
+			long i = top >>> 11;
+			switch (DIRECTIONS[(int) (top >>> (3 + 2*tried)) & 0x3])
+			{
+				case UP:  	  if (isWall(i-columns-1) && isWall(i-columns) && isWall(i-columns+1))
+								next = i-columns;
+				break;
+	
+				case DOWN: 	  if (isWall(i+columns-1) && isWall(i+columns) && isWall(i+columns+1))
+								next = i+columns;
+				break;
+	
+				case LEFT:    if (isWall(i-columns-1) && isWall(i-1) && isWall(i+columns-1))
+								next = i-1;
+				break;
+	
+				case RIGHT:   if (isWall(i-columns+1) && isWall(i+1) && isWall(i+columns+1))
+								next = i+1;
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Utility method to generate a random order of the 4 Directions, packed 2 bits per direction
+	 * (the first direction to try is in the lowest bits)
+	 * 
+	 * @return The Direction ordinals in random order
+	 */
+	private int randomDirectionOrder() {
+		int order = 0b11_10_01_00; // every direction once, in ordinal order
+		for (int i = 3; i > 0; --i) {
+			int j = random.nextInt(i+1); // pick an element at random and swap it with element i
+			int swap = ((order >>> 2*i) ^ (order >>> 2*j)) & 0x3;
+			order ^= (swap << 2*i) | (swap << 2*j);
+		}
+		return order;
+	}
+
+	/**
+	 * Generates a random maze that may or may not have a solution.
+	 */
+	private void generateRandomMaze()
+	{
+		// Iterate through all non-border cells and mark them as either a wall or open 
+		//based on a certain probability (currently 70% chance of open cell, 30% chance of wall)
+		for (int r = 0; r < rows; ++r)
+		{
+			for (int c = 0; c < columns; ++c)
+			{
+				if (r == 0 || c == 0 || r == rows-1 || c == columns-1)
+				{
+					setType(r, c, Cell.Type.WALL); // Leave border cells as walls
+				}
+				else
+				{
+					if (random.nextDouble() <.3) setType(r, c, Cell.Type.WALL);
+					else setType(r, c, Cell.Type.OPEN);
+				}
+			}
+		}
+
+		// Generate a random starting location
+		int startRow = random.nextInt(rows-1) + 1;
+		int startCol = random.nextInt(columns-1) + 1;
+		setStart(startRow, startCol);
+		
+		// Generate a random goal location (ensuring it isn't the start)
+		int goalRow = random.nextInt(rows-1) + 1;
+		while (goalRow == startRow) goalRow = random.nextInt(rows-1) + 1;
+		int goalCol = random.nextInt(columns-1) + 1;
+		this.goalRow = goalRow;
+		this.goalColumn = goalCol;
+		setType(goalRow, goalCol, Cell.Type.GOAL);
+	}
+
+	/**
+	 * Get the number of rows in the maze
+	 * 
+	 * @return The number of rows
+	 */
+	public int numRows() {
+		return rows;
+	}
+
+	/**
+	 * Get the number of columns in the maze
+	 * 
+	 * @return The number of columns
+	 */
+	public int numColumns() {
+		return columns;
+	}
+	
+	/**
+	 * Get the maze start cell
+	 * 
+	 * @return The starting cell of the maze
+	 */
+	public Cell getStartCell() {
+		return new Cell(this, startRow, startColumn);
+	}
+
+	/**
+	 * Get the maze goal cell
+	 * 
+	 * @return The goal cell of the maze
+	 */
+	public Cell getGoalCell() {
+		return new Cell(this, goalRow, goalColumn);
+	}
+
+	/**
+	 * Get the cell at a specified row and column in the maze. Note that the row corresponds to the cell's
+	 * y coordinate and the column corresponds to the cell's x coordinate.
+	 * @param row The row (y coordinate) of the cell to get
+	 * @param column The column (x coordinate) of the cell to get
+	 * @return A view onto the cell at that location
+	 */
+	public Cell getCell(int row, int column) {
+		if (row < 0) throw new IllegalArgumentException("Error - row must be >= 0");
+		if (row >= rows) throw new IllegalArgumentException("Error - row out of "
+				+ "bounds (max " + (rows-1) + " )");
+		if (column < 0) throw new IllegalArgumentException("Error - column must be >= 0");
+		if (column >= columns) throw new IllegalArgumentException("Error - column out of "
+				+ "bounds (max " + (columns-1) + " )");
+
+		return new Cell(this, row, column);
+	}
+
+	/**
+	 * Get the number of cells in the maze
+	 * 
+	 * @return The number of cells (rows * columns)
+	 */
+	public long numCells() {
+		return cells.length();
+	}
+
+	/**
+	 * Utility method to get the position of a cell in the packed storage arrays
+	 * 
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @return The index of the cell
+	 */
+	private long index(int row, int column) {
+		return (long) row * columns + column;
+	}
+
+	/**
+	 * Get the type of the cell at a specified row and column
+	 * 
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @return The cell's type
+	 */
+	public Cell.Type getType(int row, int column) {
+		return Cell.TYPES[cells.get(index(row, column)) & TYPE_MASK];
+	}
+
+	/**
+	 * Set the type of the cell at a specified row and column (only while generating or loading the maze)
+	 * 
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @param type The cell's new type
+	 */
+	void setType(int row, int column, Cell.Type type) {
+		long index = index(row, column);
+		cells.set(index, (byte) type.ordinal());
+		if (changes != null) changes.add((int) index);
+		if (listener != null) listener.cellChanged(this, row, column);
+	}
+
+	/**
+	 * Start recording which cells change while the maze is generated, e.g., so a GUI animating the
+	 * generation only has to redraw those cells. Mazes never change once generated, so this only makes
+	 * sense from MazeGenerator.Listener.started, on the thread generating the maze (which is the one
+	 * thread that adds to the record, see DirtyCells). The record identifies cells by an int index, so
+	 * only mazes with at most Integer.MAX_VALUE cells can be tracked.
+	 * 
+	 * @param changes Where to record changed cells, or null to stop recording them
+	 */
+	public void trackChanges(DirtyCells changes) {
+		if (changes != null && numCells() > Integer.MAX_VALUE) throw new IllegalArgumentException("Error - maze has "
+				+ numCells() + " cells, more than the maximum of " + Integer.MAX_VALUE + " whose changes can be tracked");
+		this.changes = changes;
+		if (changes != null) changes.markAll();
+	}
+
+	/**
+	 * Get where the cells changed while the maze is generated are recorded
+	 * 
+	 * @return The record of changed cells, or null if changes aren't being recorded
+	 */
+	public DirtyCells getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Copy the types of a run of cells (as Type ordinals), e.g., for saving the maze a buffer at a time
+	 * 
+	 * @param index The index of the first cell
+	 * @param types The array to copy the types into
+	 * @param offset The position in types to copy the first cell's type to
+	 * @param count The number of cells
+	 */
+	void getTypes(long index, byte[] types, int offset, int count) {
+		// The packed bytes hold nothing but the type, so they can be copied as they are
+		cells.get(index, types, offset, count);
+	}
+
+	/**
+	 * Utility method to check whether the cell at a specified index is a wall
+	 * 
+	 * @param index The index of the cell
+	 * @return True if the cell is a wall, false otherwise
+	 */
+	boolean isWall(long index) {
+		return (cells.get(index) & TYPE_MASK) == Cell.Type.WALL.ordinal();
+	}
+
+	/**
+	 * Mark the cell at a specified row and column as the maze's start cell
+	 * 
+	 * @param row The row of the start cell
+	 * @param column The column of the start cell
+	 */
+	private void setStart(int row, int column) {
+		startRow = row;
+		startColumn = column;
+		setType(row, column, Cell.Type.START);
+	}
+
+	/**
+	 * Return a string representation of the maze based on encoding each cell to a certain character value. See
+	 * the Cell toString() method for details on this encoding.
+	 */
+	public String toString()
+	{
+		StringBuilder sB = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < columns; j++) {
+				sB.append(Cell.charOf(getType(i, j)));
+			}
+			sB.append("\n");
+		}
+		return sB.toString();
+	}
+	
+	/**
+	 * Save a maze to a text file. The format is that the first line of the file will encode the columns and
+	 * rows of the maze and each subsequent line will correspond to one row of the maze.
+	 * 
+	 * @param file The file to save the maze to
+	 * @return True if the maze was saved to the file successfully, false otherwise
+	 */
+	public boolean save(File file) {
+		return save(file, new int[0]);
+	}
+	
+	/**
+	 * Save a maze to a file in the binary format, which stores one bit per cell (so it is about 8 times
+	 * smaller than the text format) and can optionally be compressed further. A maze saved this way is
+	 * loaded by the Maze(File) constructor just like a text file. See MazeBinaryWriter for the layout.
+	 * 
+	 * @param file The file to save the maze to
+	 * @param compress Whether to compress the cells with deflate
+	 * @return True if the maze was saved to the file successfully, false otherwise
+	 */
+	public boolean saveBinary(File file, boolean compress) {
+		if (file == null) throw new IllegalArgumentException("Error - cannot save a maze to a null file");
+		
+		try (OutputStream outStream = new BufferedOutputStream(new FileOutputStream(file))) {
+			MazeBinaryWriter.write(this, outStream, compress);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Save a maze to a text file with a solution path drawn on it. The open cells on the path are written
+	 * as Cell.PATH_CHAR instead of '.', which loads back as an open cell.
+	 * 
+	 * @param file The file to save the maze to
+	 * @param path The cells on the path, each encoded as row * numColumns() + column (e.g., from
+	 * 			   MazeSolver.getSolutionPath())
+	 * @return True if the maze was saved to the file successfully, false otherwise
+	 */
+	public boolean save(File file, int[] path) {
+		if (path == null) throw new IllegalArgumentException("Error - cannot save a maze with a null path");
+		
+		// Sort the path so its cells can be matched up in the same order the rows are written
+		int[] onPath = path.clone();
+		Arrays.sort(onPath);
+		if (onPath.length > 0 && (onPath[0] < 0 || onPath[onPath.length - 1] >= numCells())) {
+			throw new IllegalArgumentException("Error - path contains a cell outside the maze");
+		}
+		
+		PrintWriter outStream = null;
+		try {
+			outStream = new PrintWriter(new BufferedOutputStream(new FileOutputStream(file)));
+		} catch (FileNotFoundException e) {
+			return false;
+		}
+		
+		outStream.println(numColumns() + " " + numRows());
+		
+		// Write one row at a time rather than building the whole maze as a String first, 
+		// since large mazes can have more cells than a String can hold
+		char[] line = new char[columns];
+		int next = 0;
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < columns; j++) {
+				Cell.Type type = getType(i, j);
+				line[j] = Cell.charOf(type);
+				
+				long index = index(i, j);
+				while (next < onPath.length && onPath[next] < index) next++;
+				if (next < onPath.length && onPath[next] == index && type == Cell.Type.OPEN) line[j] = Cell.PATH_CHAR;
+			}
+			outStream.write(line);
+			outStream.print("\n");
+		}
+		
+		outStream.close(); // closes file
+		return !outStream.checkError();
+	}
+}
@@ -0,0 +1,294 @@
+/* *****************************************************************************
+ * Title:            MazeBatchSolver
+ * Files:            MazeBatchSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Solves many mazes concurrently without a GUI
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Solves a stream of mazes (already in memory or loaded from files) concurrently on a fixed pool of
+ * worker threads, with no GUI and no animation pauses. Results come back as a stream, in the order the
+ * solves finish.
+ *
+ * Each solver keeps what it explores in its own SearchState and never changes the maze itself, so the
+ * same Maze can safely appear in the stream more than once (even being solved by several workers at
+ * the same time).
+ *
+ * The results stream is lazy: mazes are only taken from the input as results are consumed, with at
+ * most a couple of mazes per worker in flight at a time, so arbitrarily long streams can be solved in
+ * bounded memory.
+ *
+ * A MazeBatchSolver owns its worker threads, so close it once it is no longer needed.
+ *
+ * @author Mickie Newman
+ */
+public final class MazeBatchSolver implements AutoCloseable {
+
+	/**
+	 * The outcome of solving one maze in a batch
+	 *
+	 * @author Mickie Newman
+	 */
+	public static final class Result {
+
+		// The position of the maze in the input stream
+		private final long index;
+
+		// The solver's final status, or null if the maze couldn't be loaded
+		private final MazeSolver.Status status;
+
+		// How many cells the solver visited and how many cells are on the path it found
+		private final int cellsVisited, pathLength;
+
+		// How long the maze took to load (if it came from a file) and solve
+		private final long latencyNanos;
+
+		// Why the maze couldn't be loaded or solved, or null if it was solved
+		private final Exception error;
+
+		/**
+		 * Create a result
+		 *
+		 * @param index The position of the maze in the input stream
+		 * @param status The solver's final status, or null if the maze couldn't be loaded
+		 * @param cellsVisited How many cells the solver visited
+		 * @param pathLength How many cells are on the path the solver found
+		 * @param latencyNanos How long the maze took to load and solve
+		 * @param error Why the maze couldn't be loaded or solved, or null if it was solved
+		 */
+		Result(long index, MazeSolver.Status status, int cellsVisited, int pathLength, long latencyNanos,
+				Exception error) {
+			this.index = index;
+			this.status = status;
+			this.cellsVisited = cellsVisited;
+			this.pathLength = pathLength;
+			this.latencyNanos = latencyNanos;
+			this.error = error;
+		}
+
+		/**
+		 * Get the position of the maze in the input stream
+		 *
+		 * @return The index of the maze (starting from 0)
+		 */
+		public long getIndex() {
+			return index;
+		}
+
+		/**
+		 * Get the solver's final status
+		 *
+		 * @return SOLVED or NO_SOLUTION, or null if the maze couldn't be loaded or solved
+		 */
+		public MazeSolver.Status getStatus() {
+			return status;
+		}
+
+		/**
+		 * Get how many cells the solver visited
+		 *
+		 * @return The number of cells visited
+		 */
+		public int getCellsVisited() {
+			return cellsVisited;
+		}
+
+		/**
+		 * Get the length of the path the solver found
+		 *
+		 * @return The number of cells on the path (including the start and goal), or 0 if none was found
+		 */
+		public int getPathLength() {
+			return pathLength;
+		}
+
+		/**
+		 * Get how long it took to load (for mazes from files) and solve the maze, once a worker started on it
+		 *
+		 * @return The latency in nanoseconds
+		 */
+		public long getLatencyNanos() {
+			return latencyNanos;
+		}
+
+		/**
+		 * Get why the maze couldn't be loaded or solved
+		 *
+		 * @return The exception that stopped it, or null if the maze was solved
+		 */
+		public Exception getError() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			if (error != null) return "Maze " + index + ": failed (" + error.getMessage() + ")";
+			return "Maze " + index + ": " + status + " after visiting " + cellsVisited + " cells, path length "
+					+ pathLength + ", " + latencyNanos / 1000 + " us";
+		}
+	}
+
+	/**
+	 * Something that produces a maze to solve, e.g., by loading it from a file
+	 */
+	private interface MazeSource {
+		Maze load() throws Exception;
+	}
+
+	// How many mazes may be waiting or being solved per worker thread
+	private static final int IN_FLIGHT_PER_THREAD = 2;
+
+	// The type of solver used for every maze
+	private final MazeSolver.Type type;
+
+	// The worker threads
+	private final ExecutorService executor;
+
+	// The number of worker threads
+	private final int threads;
+
+	/**
+	 * Create a batch solver with one worker thread per available processor
+	 *
+	 * @param type The type of solver to use for every maze
+	 */
+	public MazeBatchSolver(MazeSolver.Type type) {
+		this(type, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a batch solver
+	 *
+	 * @param type The type of solver to use for every maze
+	 * @param threads The number of worker threads (must be > 0)
+	 */
+	public MazeBatchSolver(MazeSolver.Type type, int threads) {
+		if (type == null) throw new IllegalArgumentException("Error - cannot create a batch solver with a null solver type");
+		if (threads <= 0) throw new IllegalArgumentException("Error - batch solver needs at least 1 thread, not " + threads);
+
+		this.type = type;
+		this.threads = threads;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread t = new Thread(runnable, "maze-batch-solver-" + threadCount.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * Solve a stream of mazes that are already in memory. The mazes themselves are not changed.
+	 *
+	 * @param mazes The mazes to solve
+	 * @return The results, in the order the solves finish
+	 */
+	public Stream<Result> solve(Stream<Maze> mazes) {
+		if (mazes == null) throw new IllegalArgumentException("Error - cannot solve a null stream of mazes");
+		return results(mazes.map(maze -> (MazeSource) () -> maze).iterator());
+	}
+
+	/**
+	 * Solve a stream of mazes stored in files. Each file is loaded by the worker that solves it; a file
+	 * that can't be loaded gives a result with an error rather than stopping the batch.
+	 *
+	 * @param files The files holding the mazes to solve
+	 * @return The results, in the order the solves finish
+	 */
+	public Stream<Result> solveFiles(Stream<File> files) {
+		if (files == null) throw new IllegalArgumentException("Error - cannot solve a null stream of files");
+		return results(files.map(file -> (MazeSource) () -> new Maze(file)).iterator());
+	}
+
+	/**
+	 * Stop the worker threads. Mazes already being solved are abandoned.
+	 */
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Utility method to create the lazy stream of results for some mazes
+	 *
+	 * @param sources Where to get each maze from
+	 * @return The results, in the order the solves finish
+	 */
+	private Stream<Result> results(Iterator<MazeSource> sources) {
+		CompletionService<Result> completed = new ExecutorCompletionService<Result>(executor);
+		int maxInFlight = threads * IN_FLIGHT_PER_THREAD;
+
+		Spliterator<Result> spliterator = new Spliterators.AbstractSpliterator<Result>(Long.MAX_VALUE,
+				Spliterator.NONNULL) {
+
+			// How many mazes have been submitted and how many of those haven't been returned yet
+			private long submitted;
+			private int inFlight;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Result> action) {
+				// Keep the workers busy by topping up the mazes in flight
+				while (inFlight < maxInFlight && sources.hasNext()) {
+					MazeSource source = sources.next();
+					long index = submitted++;
+					completed.submit(() -> solveOne(index, source));
+					inFlight++;
+				}
+				if (inFlight == 0) return false;
+
+				try {
+					Result result = completed.take().get();
+					inFlight--;
+					action.accept(result);
+					return true;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Error - interrupted while waiting for a maze to be solved", e);
+				} catch (ExecutionException e) {
+					// solveOne catches everything, so this shouldn't happen
+					throw new IllegalStateException("Error - batch solve failed", e.getCause());
+				}
+			}
+		};
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	/**
+	 * Utility method run by a worker to load and solve a single maze
+	 *
+	 * @param index The position of the maze in the input stream
+	 * @param source Where to get the maze from
+	 * @return The result of solving the maze
+	 */
+	private Result solveOne(long index, MazeSource source) {
+		long start = System.nanoTime();
+		try {
+			MazeSolver solver = MazeSolver.create(type, source.load());
+			MazeSolver.Status status = solver.solveFast();
+			return new Result(index, status, solver.getCellsVisited(), solver.getSolutionLength(),
+					System.nanoTime() - start, null);
+		} catch (Exception e) {
+			return new Result(index, null, 0, 0, System.nanoTime() - start, e);
+		}
+	}
+}
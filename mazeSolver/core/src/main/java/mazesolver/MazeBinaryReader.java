@@ -0,0 +1,160 @@
+/* *****************************************************************************
+ * Title:            MazeBinaryReader
+ * Files:            MazeBinaryReader.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Loads a maze saved in the compact binary format
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Loads a maze saved in the binary format written by MazeBinaryWriter (see there for the layout).
+ * The packed cells are read a buffer at a time and unpacked straight into the maze's packed cell
+ * array, so loading never holds more than the maze itself plus a couple of small buffers.
+ *
+ * A bit is unpacked directly into a cell's type, which works because WALL and OPEN are the first two
+ * cell types (0 and 1); the start and goal cells are then given their own types from the header.
+ *
+ * @author Mickie Newman
+ */
+final class MazeBinaryReader {
+
+	// The packed values of the start and goal cell types
+	private static final byte START = (byte) Cell.Type.START.ordinal();
+	private static final byte GOAL = (byte) Cell.Type.GOAL.ordinal();
+
+	// For each byte of packed cells, the 8 cell types it unpacks to (one per byte, first cell in the most
+	// significant byte)
+	private static final long[] UNPACK = new long[256];
+	static {
+		for (int bits = 0; bits < 256; bits++) {
+			for (int i = 0; i < 8; i++) {
+				UNPACK[bits] |= (long) ((bits >>> i) & 1) << (8 * i);
+			}
+		}
+	}
+
+	// This class only has static methods
+	private MazeBinaryReader() {
+	}
+
+	/**
+	 * Check whether some bytes are the start of a binary maze file
+	 *
+	 * @param bytes The first bytes of the file
+	 * @param length How many of the bytes were actually read
+	 * @return True if the bytes are the binary format's magic number, false otherwise
+	 */
+	static boolean isBinary(byte[] bytes, int length) {
+		if (length < MazeBinaryWriter.MAGIC.length) return false;
+		for (int i = 0; i < MazeBinaryWriter.MAGIC.length; i++) {
+			if (bytes[i] != MazeBinaryWriter.MAGIC[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Load a maze in the binary format from a stream
+	 *
+	 * @param in Where to read the maze from (ideally buffered, since the header is read a field at a time)
+	 * @param name What to call the source of the maze in error messages (e.g., the file name)
+	 * @return The maze
+	 * @throws IOException If an issue occurs reading from the stream
+	 */
+	static Maze read(InputStream in, String name) throws IOException {
+		DataInputStream header = new DataInputStream(in);
+		int columns, rows, startRow, startColumn, goalRow, goalColumn, compression;
+		try {
+			byte[] magic = new byte[MazeBinaryWriter.MAGIC.length];
+			header.readFully(magic);
+			if (!isBinary(magic, magic.length)) throw new IllegalArgumentException("Error - cannot parse "
+					+ "file " + name + " - not a binary maze file");
+
+			int version = header.readUnsignedByte();
+			if (version != MazeBinaryWriter.VERSION) throw new IllegalArgumentException("Error - cannot parse "
+					+ "file " + name + " - unsupported binary maze version " + version);
+
+			compression = header.readUnsignedByte();
+			if (compression != MazeBinaryWriter.NONE && compression != MazeBinaryWriter.DEFLATE) {
+				throw new IllegalArgumentException("Error - cannot parse "
+						+ "file " + name + " - unknown compression " + compression);
+			}
+
+			columns = header.readInt();
+			rows = header.readInt();
+			startRow = header.readInt();
+			startColumn = header.readInt();
+			goalRow = header.readInt();
+			goalColumn = header.readInt();
+		} catch (EOFException e) {
+			throw new IllegalArgumentException("Error - cannot parse "
+					+ "file " + name + " - binary maze header is incomplete");
+		}
+
+		if (rows < 0 || columns < 0) throw new IllegalArgumentException("Error - cannot parse " +
+				"file "+ name + " - number of columns and rows must be >= 0");
+		if (startRow < 0 || startRow >= rows || startColumn < 0 || startColumn >= columns) {
+			throw new IllegalArgumentException("Error - cannot parse "
+					+ "file " + name + " - starting location is outside the maze.");
+		}
+		if (goalRow < 0 || goalRow >= rows || goalColumn < 0 || goalColumn >= columns) {
+			throw new IllegalArgumentException("Error - cannot parse "
+					+ "file " + name + " - goal location is outside the maze.");
+		}
+		if (startRow == goalRow && startColumn == goalColumn) throw new IllegalArgumentException("Error - cannot parse "
+				+ "file " + name + " - starting and goal locations are the same cell.");
+
+		long numCells = (long) rows * columns;
+		LargeByteArray cells = new LargeByteArray(numCells);
+
+		Inflater inflater = compression == MazeBinaryWriter.DEFLATE ? new Inflater() : null;
+		try {
+			InputStream packedCells = inflater != null
+					? new InflaterInputStream(in, inflater, MazeBinaryWriter.BUFFER_SIZE) : in;
+
+			// Unpack a buffer of bytes at a time, 8 cells per byte
+			byte[] packed = new byte[MazeBinaryWriter.BUFFER_SIZE];
+			byte[] unpacked = new byte[packed.length * 8];
+			for (long cell = 0; cell < numCells; ) {
+				int wanted = (int) Math.min(packed.length, (numCells - cell + 7) >>> 3);
+				int length;
+				try {
+					length = packedCells.readNBytes(packed, 0, wanted);
+				} catch (EOFException e) {
+					// Compressed cells that are cut off end in the middle of the compressed data, which the
+					// inflater reports rather than just returning fewer bytes
+					throw new IllegalArgumentException("Error - cannot parse "
+							+ "file " + name + " - ended after fewer than " + Math.min(numCells, cell + 8L * wanted)
+							+ " of " + numCells + " cells.");
+				}
+				if (length < wanted) throw new IllegalArgumentException("Error - cannot parse "
+						+ "file " + name + " - ended after " + (cell + 8L * length) + " of " + numCells + " cells.");
+
+				for (int i = 0; i < length; i++) {
+					MazeBinaryWriter.EIGHT_CELLS.set(unpacked, i * 8, UNPACK[packed[i] & 0xff]);
+				}
+				int count = (int) Math.min(8L * length, numCells - cell);
+				cells.set(cell, unpacked, 0, count);
+				cell += count;
+			}
+		} finally {
+			if (inflater != null) inflater.end();
+		}
+
+		cells.set((long) startRow * columns + startColumn, START);
+		cells.set((long) goalRow * columns + goalColumn, GOAL);
+		return new Maze(rows, columns, cells, startRow, startColumn, goalRow, goalColumn);
+	}
+}
@@ -0,0 +1,124 @@
+/* *****************************************************************************
+ * Title:            MazeBinaryWriter
+ * Files:            MazeBinaryWriter.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Saves a maze in the compact binary format
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Saves a maze in the binary format, which stores each cell in a single bit instead of a character
+ * (so files are about 8 times smaller than the text format, before any compression). The format is:
+ *  - the 4 bytes "MAZB", so loading can tell a binary file from a text one;
+ *  - a version byte (currently 1) and a compression byte (NONE or DEFLATE);
+ *  - the number of columns and rows, then the row and column of the start cell and of the goal cell,
+ *    each as a big-endian 4-byte int;
+ *  - one bit per cell, row by row, most significant bit first: 1 for a cell that can be walked on
+ *    (including the start and goal) and 0 for a wall. The last byte is padded with 0 bits. If the
+ *    compression byte is DEFLATE, these bytes are compressed with zlib.
+ *
+ * The header is never compressed, so a maze's size can be read without inflating it. Cells are packed
+ * and written a buffer at a time, so saving needs no more memory than the maze itself.
+ *
+ * @author Mickie Newman
+ */
+final class MazeBinaryWriter {
+
+	/** The bytes every binary maze file starts with */
+	static final byte[] MAGIC = { 'M', 'A', 'Z', 'B' };
+
+	/** The version of the format written by this class */
+	static final int VERSION = 1;
+
+	/** The possible values of the compression byte */
+	static final int NONE = 0, DEFLATE = 1;
+
+	// How many bytes of packed cells are written at a time
+	static final int BUFFER_SIZE = 1 << 16;
+
+	// Reads or writes 8 cells (one per byte) at once as a long, first cell in the most significant byte
+	static final VarHandle EIGHT_CELLS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	// Keeps the lowest bit of each byte in a long
+	private static final long LOW_BITS = 0x0101010101010101L;
+
+	// Multiplying a long that has one bit in the lowest place of each byte by this gathers those 8 bits
+	// into its top byte, in the same order as the bytes
+	private static final long GATHER_BITS = 0x0102040810204080L;
+
+	// This class only has static methods
+	private MazeBinaryWriter() {
+	}
+
+	/**
+	 * Write a maze in the binary format. The stream is flushed but not closed.
+	 *
+	 * @param maze The maze to write
+	 * @param out Where to write the maze (ideally buffered, since the header is written a field at a time)
+	 * @param compress Whether to compress the cells with deflate
+	 * @throws IOException If an issue occurs writing to the stream
+	 */
+	static void write(Maze maze, OutputStream out, boolean compress) throws IOException {
+		if (maze == null) throw new IllegalArgumentException("Error - cannot write a null maze");
+		if (out == null) throw new IllegalArgumentException("Error - cannot write a maze to a null stream");
+
+		DataOutputStream header = new DataOutputStream(out);
+		header.write(MAGIC);
+		header.writeByte(VERSION);
+		header.writeByte(compress ? DEFLATE : NONE);
+		header.writeInt(maze.numColumns());
+		header.writeInt(maze.numRows());
+		header.writeInt(maze.getStartCell().getRow());
+		header.writeInt(maze.getStartCell().getColumn());
+		header.writeInt(maze.getGoalCell().getRow());
+		header.writeInt(maze.getGoalCell().getColumn());
+
+		Deflater deflater = compress ? new Deflater() : null;
+		try {
+			OutputStream cells = compress ? new DeflaterOutputStream(out, deflater, BUFFER_SIZE) : out;
+
+			// Copy a buffer of cell types at a time and pack each 8 of them into a byte
+			byte[] types = new byte[BUFFER_SIZE * 8];
+			byte[] packed = new byte[BUFFER_SIZE];
+			long numCells = maze.numCells();
+			for (long cell = 0; cell < numCells; ) {
+				int count = (int) Math.min(types.length, numCells - cell);
+				maze.getTypes(cell, types, 0, count);
+				cell += count;
+
+				// Pad the last byte with walls
+				int length = (count + 7) >>> 3;
+				Arrays.fill(types, count, length * 8, (byte) 0);
+
+				for (int i = 0; i < length; i++) {
+					// Each type is 0 (WALL) to 3, so OR-ing in its second bit leaves a 1 in its lowest bit unless it's a wall
+					long eight = (long) EIGHT_CELLS.get(types, i * 8);
+					long open = (eight | (eight >>> 1)) & LOW_BITS;
+					packed[i] = (byte) ((open * GATHER_BITS) >>> 56);
+				}
+				cells.write(packed, 0, length);
+			}
+
+			if (compress) ((DeflaterOutputStream) cells).finish();
+			out.flush();
+		} finally {
+			if (deflater != null) deflater.end();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/* *****************************************************************************
+ * Title:            MazeGenerator
+ * Files:            MazeGenerator.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Generates mazes from a seed, with optional progress callbacks
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates mazes. Generation runs on the calling thread without ever pausing and returns the finished
+ * maze, and the same algorithm, size and seed always produce the same maze (on any machine), so
+ * benchmarks and tests can regenerate identical inputs every run.
+ *
+ * Anything that wants to watch a maze being generated (e.g., a GUI animating it) passes a Listener,
+ * which is told about each cell as it changes. The listener runs on the generating thread, so it can
+ * also slow generation down to a watchable speed by pausing.
+ *
+ * @author Mickie Newman
+ */
+public final class MazeGenerator {
+
+	/**
+	 * The ways a maze can be generated
+	 *
+	 * @author Mickie Newman
+	 */
+	public static enum Algorithm {
+		/** Carve passages depth first from a random start; the maze always has a solution, with the goal
+		 *  at the end of the longest passage */
+		DEPTH_FIRST,
+
+		/** Make each cell inside the border a wall with 30% probability and pick a random start and goal;
+		 *  the maze may not have a solution */
+		RANDOM;
+	}
+
+	/**
+	 * Something to tell about the progress of generating a maze. Its methods are called on the thread
+	 * generating the maze.
+	 *
+	 * @author Mickie Newman
+	 */
+	public static interface Listener {
+
+		/**
+		 * Called once the maze has been created (with every cell a wall), before any cell is changed.
+		 * The maze can be looked at (and drawn) from here on, while it is generated.
+		 *
+		 * @param maze The maze being generated
+		 */
+		default void started(Maze maze) {
+		}
+
+		/**
+		 * Called after a cell of the maze changes
+		 *
+		 * @param maze The maze being generated
+		 * @param row The row of the cell
+		 * @param column The column of the cell
+		 */
+		void cellChanged(Maze maze, int row, int column);
+	}
+
+	// This class only has static methods
+	private MazeGenerator() {
+	}
+
+	/**
+	 * Generate a maze
+	 *
+	 * @param algorithm How to generate the maze
+	 * @param rows The number of rows for the maze (at least Maze.MIN_ROWS)
+	 * @param columns The number of columns for the maze (at least Maze.MIN_COLUMNS)
+	 * @param seed The seed for the random choices made while generating the maze
+	 * @return The generated maze
+	 */
+	public static Maze generate(Algorithm algorithm, int rows, int columns, long seed) {
+		return generate(algorithm, rows, columns, seed, null);
+	}
+
+	/**
+	 * Generate a maze, telling a listener about each cell as it changes
+	 *
+	 * @param algorithm How to generate the maze
+	 * @param rows The number of rows for the maze (at least Maze.MIN_ROWS)
+	 * @param columns The number of columns for the maze (at least Maze.MIN_COLUMNS)
+	 * @param seed The seed for the random choices made while generating the maze
+	 * @param listener Who to tell about the progress of generating the maze, or null
+	 * @return The generated maze
+	 */
+	public static Maze generate(Algorithm algorithm, int rows, int columns, long seed, Listener listener) {
+		if (algorithm == null) throw new IllegalArgumentException("Error - cannot generate a maze with a null algorithm");
+		return new Maze(rows, columns, algorithm, new SplittableRandom(seed), listener);
+	}
+}
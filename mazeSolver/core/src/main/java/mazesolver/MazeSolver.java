@@ -0,0 +1,375 @@
+/* *****************************************************************************
+ * Title:            MazeSolver
+ * Files:            MazeSolver.java
+ * Semester:         Spring 2021
+ * 
+ * Author:           Daniel Szafir, daniel.szafir@colorado.edu
+ * 
+ * Description:		 A Maze Solver is an abstract class representing an object
+ * 					 that can solve a maze. A particular solver (e.g., BFS, DFS,
+ * 					 A*, etc.) should extend this class.
+ * 
+ * Written:       	 3/21/2020
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.util.Arrays;
+
+/**
+ * A Maze Solver is the base abstract class for any algorithm that can solve a maze. It contains
+ * some useful enums that list the type of possible solvers and the solution status. In addition,
+ * it provides several instance variables for any solver to use.
+ * 
+ * @author Daniel Szafir
+ *
+ */
+public abstract class MazeSolver {
+	
+	/**
+	 * The type of solvers that are possible. Used to populate the combo box in the GUI that
+	 * lets the user choose what type of solver they want. Any new solver should be added to this
+	 * enum (and to the create method).
+	 * 
+	 * @author Daniel Szafir
+	 *
+	 */
+	public enum Type {
+		STACK, QUEUE, ASTAR, BIDIRECTIONAL, JUMP_POINT, PARALLEL_BFS;
+	}
+	
+	/**
+	 * The various possible solver statuses, corresponding to whether the maze has yet to be solved, 
+	 * if a solution has been found, or if the solver has determined the maze is impossible to solve.
+	 * 
+	 * @author Daniel Szafir
+	 *
+	 */
+	public static enum Status {
+		UNSOLVED, SOLVED, NO_SOLUTION;
+	}
+	
+	// The status of this particular solver
+	protected Status status;
+	
+	// This solver's maze
+	protected Maze maze;
+	
+	// What this solver has explored of the maze (kept separate so solvers never change the maze itself)
+	protected final SearchState state;
+	
+	// Keep track of order we visit cells in
+	protected int numCellsVisited;
+	
+	// The most cells this solver has had waiting to be expanded at once
+	protected int peakFrontierSize;
+	
+	// How many times this solver skipped adding a cell to its frontier because it was already waiting there
+	protected long duplicatesAvoided;
+	
+	// The path from the start to the goal, built the first time it is asked for once the maze is solved
+	private int[] solutionPath;
+	
+	/**
+	 * Create a MazeSolver for a given maze. Solvers identify cells by an int index (see getSolutionPath),
+	 * so mazes with more than Integer.MAX_VALUE cells are rejected with an IllegalArgumentException.
+	 * 
+	 * @param maze The maze the solver will attempt to solve
+	 */
+	public MazeSolver(Maze maze) {
+		this(new SearchState(maze));
+	}
+	
+	/**
+	 * Create a MazeSolver that records its search in an existing search state, e.g., one left over from
+	 * an earlier solver of the same maze. The state is reset first, which takes constant time, so
+	 * switching solvers on a large maze doesn't have to allocate or sweep per-cell arrays again.
+	 * 
+	 * @param state The search state to use (and reset); its maze is the one this solver will solve
+	 */
+	public MazeSolver(SearchState state) {
+		if (state == null) throw new IllegalArgumentException("Error - cannot create a solver based on a null search state");
+		
+		state.reset();
+		this.maze = state.getMaze();
+		this.state = state;
+		this.status = Status.UNSOLVED;
+	}
+	
+	/**
+	 * Create a new solver of a given type for a maze
+	 * 
+	 * @param type The type of solver to create
+	 * @param maze The maze the solver will attempt to solve (with at most Integer.MAX_VALUE cells)
+	 * @return The new solver
+	 */
+	public static MazeSolver create(Type type, Maze maze) {
+		if (maze == null) throw new IllegalArgumentException("Error - cannot create a solver based on a null maze");
+		return create(type, new SearchState(maze));
+	}
+	
+	/**
+	 * Create a new solver of a given type that records its search in an existing search state
+	 * 
+	 * @param type The type of solver to create
+	 * @param state The search state to use (and reset); its maze is the one the solver will solve
+	 * @return The new solver
+	 */
+	public static MazeSolver create(Type type, SearchState state) {
+		switch(type)
+		{
+		case STACK: return new StackSolver(state);
+		
+		case QUEUE: return new QueueSolver(state);
+		
+		case ASTAR: return new AStarSolver(state);
+		
+		case BIDIRECTIONAL: return new BidirectionalSolver(state);
+		
+		case JUMP_POINT: return new JumpPointSolver(state);
+		
+		case PARALLEL_BFS: return new ParallelBfsSolver(state);
+		
+		default: throw new IllegalArgumentException("Error - unknown solver type " + type);
+		}
+	}
+	
+	/**
+	 * Forget this solver's progress so it can solve its maze again from the start. The search state is
+	 * reset by moving on to a new epoch rather than clearing every cell, so on a large maze this costs
+	 * next to nothing compared to the solve itself.
+	 */
+	public final void reset() {
+		state.reset();
+		status = Status.UNSOLVED;
+		numCellsVisited = 0;
+		peakFrontierSize = 0;
+		duplicatesAvoided = 0;
+		solutionPath = null;
+		begin();
+	}
+	
+	/**
+	 * Set up the frontier for a new search, starting from the maze's start cell (and/or goal cell).
+	 * Called by each solver at the end of its constructor and by reset(), after the search state has
+	 * been reset, so any frontier left over from a previous search should be emptied first.
+	 */
+	protected abstract void begin();
+	
+	/**
+	 * Get the status of this solver
+	 * 
+	 * @return The solver status (UNSOLVED, SOLVED, or NO_SOLUTION)
+	 */
+	public final Status getStatus() {
+		return status;
+	}
+	
+	/**
+	 * Get what this solver has explored of its maze so far (e.g., for drawing the search)
+	 * 
+	 * @return This solver's search state
+	 */
+	public final SearchState getSearchState() {
+		return state;
+	}
+	
+	/**
+	 * Get how many cells this solver has visited so far (i.e., how many steps have been taken)
+	 * 
+	 * @return The number of cells this solver has visited
+	 */
+	public final int getCellsVisited()
+	{
+		return numCellsVisited;
+	}
+	
+	/**
+	 * Get the most cells this solver has had waiting to be expanded (i.e., on its frontier) at once
+	 * 
+	 * @return The peak size of this solver's frontier
+	 */
+	public final int getPeakFrontierSize()
+	{
+		return peakFrontierSize;
+	}
+	
+	/**
+	 * Get how many times this solver reached a cell that was already on its frontier and so didn't add
+	 * it again. Without this, the same cell could be on the frontier once per neighbor.
+	 * 
+	 * @return The number of duplicate frontier entries avoided
+	 */
+	public final long getDuplicatesAvoided()
+	{
+		return duplicatesAvoided;
+	}
+	
+	/**
+	 * Record the current size of the frontier, keeping track of the peak
+	 * 
+	 * @param size The number of cells currently waiting to be expanded
+	 */
+	protected final void updatePeakFrontierSize(int size) {
+		if (size > peakFrontierSize) peakFrontierSize = size;
+	}
+	
+	/**
+	 * Get the path this solver found from the start to the goal. Each cell on the path is encoded as its
+	 * index, row * maze.numColumns() + column.
+	 * 
+	 * @return The cells on the path in order, starting with the start cell and ending with the goal cell,
+	 * 		   or an empty array if the maze hasn't been solved
+	 */
+	public final int[] getSolutionPath() {
+		if (status != Status.SOLVED) return new int[0];
+		if (solutionPath == null) solutionPath = buildSolutionPath();
+		return solutionPath;
+	}
+	
+	/**
+	 * Get the length of the path this solver found from the start to the goal
+	 * 
+	 * @return The number of cells on the path (including the start and goal), or 0 if the maze hasn't been solved
+	 */
+	public final int getSolutionLength() {
+		return getSolutionPath().length;
+	}
+	
+	/**
+	 * Record which cell the solver reached a cell from
+	 * 
+	 * @param cell The index of the cell
+	 * @param parent The index of the cell it was reached from. This doesn't have to be a neighbor, as
+	 * 				 long as the two cells are in the same row or column with nothing but open cells between them.
+	 */
+	protected final void setParent(int cell, int parent) {
+		state.setParent(cell, parent);
+	}
+	
+	/**
+	 * Get which cell the solver reached a cell from. Parents aren't cleared between searches, so this
+	 * is only meaningful for cells given a parent in the current search.
+	 * 
+	 * @param cell The index of the cell
+	 * @return The index of the cell it was reached from
+	 */
+	protected final int getParent(int cell) {
+		return state.getParent(cell);
+	}
+	
+	/**
+	 * Utility method to get the index of a cell (row * columns + column)
+	 * 
+	 * @param cell The cell
+	 * @return The cell's index
+	 */
+	protected final int indexOf(Cell cell) {
+		return cell.getRow() * maze.numColumns() + cell.getColumn();
+	}
+	
+	/**
+	 * Utility method to follow the recorded parents back from the goal to the start, filling in the
+	 * cells between any parents that aren't direct neighbors
+	 * 
+	 * @return The cells on the path from the start to the goal
+	 */
+	private int[] buildSolutionPath() {
+		int columns = maze.numColumns();
+		int start = indexOf(maze.getStartCell());
+		int[] path = new int[64];
+		int length = 0;
+		
+		int cell = indexOf(maze.getGoalCell());
+		while (true) {
+			if (length == path.length) path = Arrays.copyOf(path, length * 2);
+			path[length++] = cell;
+			if (cell == start) break;
+			
+			int parent = getParent(cell);
+			
+			// Step one cell at a time towards the parent (along its row or column)
+			int stride = (parent / columns == cell / columns) ? 1 : columns;
+			int step = parent < cell ? -stride : stride;
+			for (int between = cell + step; between != parent; between += step) {
+				if (length == path.length) path = Arrays.copyOf(path, length * 2);
+				path[length++] = between;
+			}
+			cell = parent;
+		}
+		
+		// We walked from the goal back to the start, so reverse the path
+		for (int i = 0, j = length - 1; i < j; i++, j--) {
+			int temp = path[i];
+			path[i] = path[j];
+			path[j] = temp;
+		}
+		return Arrays.copyOf(path, length);
+	}
+	
+	/**
+	 * Step explores a single cell. If the cell is the goal, then return true. If it is apparent
+	 * that there is no possible solution, step should return false. Otherwise, step should mark the 
+	 * cell as visited, determine which cells should be visited next, and return false.
+	 * 
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached), 
+	 * 		   false otherwise
+	 */
+	public abstract boolean step();
+	
+	/**
+	 * Take up to n steps, stopping early if the maze is solved or found to have no solution. This calls
+	 * step() once per step; the solvers whose steps are cheap enough for the call and status check to
+	 * matter (QueueSolver, StackSolver, and AStarSolver) override it with their own loops instead.
+	 * 
+	 * @param n The maximum number of steps to take (must be >= 0)
+	 * @return The solver status after stepping
+	 */
+	public Status step(int n) {
+		checkSteps(n);
+		for (int i = 0; i < n && status == Status.UNSOLVED; i++) {
+			step();
+		}
+		return status;
+	}
+	
+	/**
+	 * Utility method to check the number of steps passed to step(int)
+	 * 
+	 * @param n The number of steps
+	 */
+	protected static void checkSteps(int n) {
+		if (n < 0) throw new IllegalArgumentException("Error - cannot take a negative number of steps: " + n);
+	}
+	
+	/**
+	 * Solve continually calls the step method until the step algorithm determines the maze is either
+	 * solved or there is no possible solution, pausing a brief period in between each call to step
+	 * to enable an animation of the solver.
+	 */
+	public final void solve() {
+		while (status == Status.UNSOLVED) {
+			step();
+			
+			try {
+				Thread.sleep(Maze.DRAWING_SPEED);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Solve the maze as fast as possible, calling the step method back to back (with no pauses for
+	 * animation) until the maze is either solved or there is no possible solution. Use this when
+	 * nobody is watching the solver work, e.g., for batch solves or the GUI's "Solve Instantly" button.
+	 * 
+	 * @return The final solver status (SOLVED or NO_SOLUTION)
+	 */
+	public final Status solveFast() {
+		while (status == Status.UNSOLVED) {
+			step(Integer.MAX_VALUE);
+		}
+		return status;
+	}
+}
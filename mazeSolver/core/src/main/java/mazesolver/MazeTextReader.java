@@ -0,0 +1,246 @@
+/* *****************************************************************************
+ * Title:            MazeTextReader
+ * Files:            MazeTextReader.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Loads a maze from the text format in a single streaming pass
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Loads a maze saved in the text format (a "columns rows" header line, then one line per row with one
+ * character per cell, as written by Maze.save). The file is streamed through a FileChannel into a
+ * reusable buffer, and each run of cells is decoded in place (through a lookup table) and copied into
+ * the maze's packed cell array in one go, checking the layout (row widths, number of rows, exactly one
+ * start and one goal) in the same pass. Nothing is allocated per line or per cell.
+ *
+ * The file is streamed rather than memory mapped: a mapping can't be released until it is garbage
+ * collected (keeping the file locked on some platforms), and can only cover 2GB at a time anyway.
+ *
+ * Lines are treated the same way BufferedReader.readLine and String.trim would treat them: a line ends
+ * at "\n", "\r" or "\r\n", whitespace at either end of a line is ignored, and rows shorter than the
+ * header says are padded with walls.
+ *
+ * @author Mickie Newman
+ */
+final class MazeTextReader {
+
+	// How many bytes are read from the file at a time
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	// The header is a single short line, so anything longer than this can't be one
+	private static final int MAX_HEADER_LENGTH = 1024;
+
+	// The packed values of the cell types
+	private static final byte WALL = (byte) Cell.Type.WALL.ordinal();
+	private static final byte OPEN = (byte) Cell.Type.OPEN.ordinal();
+	private static final byte START = (byte) Cell.Type.START.ordinal();
+	private static final byte GOAL = (byte) Cell.Type.GOAL.ordinal();
+
+	// Marks bytes in DECODE that aren't a plain wall or open cell and so need a closer look
+	private static final byte SPECIAL = -1;
+
+	// For each byte value, the packed type of the wall or open cell it encodes, or SPECIAL. Walls and
+	// open cells are mixed more or less at random, so branching on which one each byte is would be
+	// mispredicted about half the time; looking them up keeps such branches out of the decoding loop.
+	private static final byte[] DECODE = new byte[256];
+	static {
+		Arrays.fill(DECODE, SPECIAL);
+		DECODE['#'] = WALL;
+		DECODE['.'] = OPEN;
+		DECODE[Cell.PATH_CHAR] = OPEN;
+	}
+
+	// This class only has static methods
+	private MazeTextReader() {
+	}
+
+	/**
+	 * Load a maze in the text format from a channel, reading until the end of the channel
+	 *
+	 * @param channel Where to read the maze from
+	 * @param name What to call the source of the maze in error messages (e.g., the file name)
+	 * @return The maze
+	 * @throws IOException If an issue occurs reading from the channel
+	 */
+	static Maze read(ReadableByteChannel channel, String name) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] bytes = buffer.array();
+
+		// The header line, collected until it ends
+		StringBuilder header = new StringBuilder();
+		boolean inHeader = true;
+
+		int rows = 0, columns = 0;
+		LargeByteArray cells = null;
+		int startRow = -1, startColumn = -1, goalRow = -1, goalColumn = -1;
+
+		// Where we are in the file: the current row and column, the index of the row's first cell, whether
+		// the previous byte was a '\r' (so a following '\n' doesn't end another line), and the first
+		// whitespace byte after the cells on the current line (-1 if none), which is only allowed at the end
+		int row = 0, col = 0;
+		long rowStart = 0;
+		boolean afterReturn = false;
+		int trailingSpace = -1;
+
+		while (channel.read(buffer) >= 0) {
+			int end = buffer.position();
+			for (int i = 0; i < end; i++) {
+				int b = bytes[i];
+				byte type = DECODE[b & 0xff];
+
+				// A run of plain walls and open cells (almost every byte in a maze file): decode it in place
+				// and copy it into the maze in one go
+				if (type != SPECIAL && !inHeader) {
+					afterReturn = false;
+					checkCell(name, row, col, rows, columns, trailingSpace);
+
+					int runStart = i;
+					int runEnd = (int) Math.min(end, (long) i + columns - col);
+					bytes[i] = type;
+					while (++i < runEnd) {
+						type = DECODE[bytes[i] & 0xff];
+						if (type == SPECIAL) break;
+						bytes[i] = type;
+					}
+					cells.set(rowStart + col, bytes, runStart, i - runStart);
+					col += i - runStart;
+					i--; // The loop moves on to the byte that ended the run
+					continue;
+				}
+
+				// End of a line
+				if (b == '\n' || b == '\r') {
+					if (b == '\n' && afterReturn) {
+						afterReturn = false;
+						continue;
+					}
+					afterReturn = b == '\r';
+
+					if (inHeader) {
+						inHeader = false;
+						columns = parseDimension(header, 0, "columns", name);
+						rows = parseDimension(header, 1, "rows", name);
+						cells = new LargeByteArray((long) rows * columns);
+						continue;
+					}
+					row++;
+					col = 0;
+					rowStart += columns;
+					trailingSpace = -1;
+					continue;
+				}
+				afterReturn = false;
+
+				if (inHeader) {
+					if (header.length() == MAX_HEADER_LENGTH) throw new IllegalArgumentException("Error - cannot parse "
+							+ "file " + name + " - should start with columns and rows specification");
+					header.append((char) (b & 0xff));
+					continue;
+				}
+
+				// Whitespace is only allowed before or after a row's cells
+				if (b <= ' ' && b >= 0) {
+					if (col > 0 && trailingSpace < 0) trailingSpace = b;
+					continue;
+				}
+
+				switch (b) {
+					case 'S':
+						if (startRow >= 0) throw new IllegalArgumentException("Error - cannot parse "
+								+ "file " + name + " - more than one starting location specified.");
+						startRow = row;
+						startColumn = col;
+						type = START;
+						break;
+
+					case 'G':
+						if (goalRow >= 0) throw new IllegalArgumentException("Error - cannot parse "
+								+ "file " + name + " - more than one goal location specified.");
+						goalRow = row;
+						goalColumn = col;
+						type = GOAL;
+						break;
+
+					default:
+						throw new IllegalArgumentException("Error - unknown square type specified: " + (char) (b & 0xff));
+				}
+				checkCell(name, row, col, rows, columns, trailingSpace);
+				cells.set(rowStart + col, type);
+				col++;
+			}
+			buffer.clear();
+		}
+
+		// A file with nothing after the header has no start or goal
+		if (inHeader) {
+			parseDimension(header, 0, "columns", name);
+			parseDimension(header, 1, "rows", name);
+		}
+
+		if (startRow < 0) throw new IllegalArgumentException("Error - cannot parse "
+				+ "file " + name + " - no starting location specified.");
+
+		if (goalRow < 0) throw new IllegalArgumentException("Error - cannot parse "
+				+ "file " + name + " - no goal location specified.");
+
+		return new Maze(rows, columns, cells, startRow, startColumn, goalRow, goalColumn);
+	}
+
+	/**
+	 * Utility method to check that a cell about to be decoded fits in the maze
+	 *
+	 * @param name What to call the source of the maze in error messages
+	 * @param row The row of the cell
+	 * @param col The column of the cell
+	 * @param rows The number of rows in the maze
+	 * @param columns The number of columns in the maze
+	 * @param trailingSpace The first whitespace byte after earlier cells in the row, or -1 if none
+	 */
+	private static void checkCell(String name, int row, int col, int rows, int columns, int trailingSpace) {
+		if (trailingSpace >= 0) {
+			throw new IllegalArgumentException("Error - unknown square type specified: " + (char) trailingSpace);
+		}
+		if (row >= rows) throw new IllegalArgumentException("Error - cannot parse "
+				+ "file " + name + " - more than " + rows + " rows specified.");
+		if (col >= columns) throw new IllegalArgumentException("Error - cannot parse "
+				+ "file " + name + " - row " + row + " has more than " + columns + " columns.");
+	}
+
+	/**
+	 * Utility method to parse one of the numbers in the header line
+	 *
+	 * @param header The header line
+	 * @param position Which number to parse (0 for the columns, 1 for the rows)
+	 * @param what What the number is, for error messages
+	 * @param name What to call the source of the maze in error messages
+	 * @return The number, which is always >= 0
+	 */
+	private static int parseDimension(CharSequence header, int position, String what, String name) {
+		String[] colsAndRows = header.toString().split(" ");
+
+		if (colsAndRows.length != 2) throw new IllegalArgumentException("Error - cannot parse " +
+				"file "+ name + " - should start with columns and rows specification");
+
+		int value;
+		try {
+			value = Integer.parseInt(colsAndRows[position]);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Error - cannot parse " +
+					"file "+ name + " - expecting number of " + what + ", got " + colsAndRows[position]);
+		}
+		if (value < 0) throw new IllegalArgumentException("Error - cannot parse " +
+				"file "+ name + " - number of columns and rows must be >= 0");
+		return value;
+	}
+}
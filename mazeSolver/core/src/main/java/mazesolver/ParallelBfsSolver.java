@@ -0,0 +1,278 @@
+/* *****************************************************************************
+ * Title:            ParallelBfsSolver
+ * Files:            ParallelBfsSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A MazeSolver that runs BFS one level at a time across several threads
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A MazeSolver that runs a level-synchronous BFS on a fork-join pool. All the cells at one distance
+ * from the start (a BFS level) are split into chunks that are expanded in parallel. Each chunk
+ * collects the cells it discovers in its own buffer, and the buffers are concatenated into the next
+ * level once the whole level is done.
+ *
+ * Cells are claimed with a compare-and-set on their stamp in the search state, so each cell is
+ * discovered by exactly one thread. It ends up in exactly one chunk's buffer, and its parent is written
+ * once. Because whole levels are expanded at a time, the goal is reached at the same distance as
+ * QueueSolver finds it, although a few more cells may be expanded (the rest of the level the goal was
+ * found in).
+ *
+ * Each step expands one whole BFS level rather than a single cell; getCellsVisited still counts cells.
+ *
+ * @author Mickie Newman
+ */
+public class ParallelBfsSolver extends MazeSolver {
+
+	// Levels with fewer cells than this are expanded in one chunk on the calling thread, since
+	// handing such small amounts of work to the pool costs more than it saves
+	static final int CHUNK_SIZE = 2048;
+
+	// The pool the levels are expanded on
+	private final ForkJoinPool pool;
+
+	// The cells in the level being expanded, and how many there are
+	private int[] level = new int[CHUNK_SIZE];
+	private int levelSize;
+
+	// Each chunk's buffer of the cells it discovered for the next level. These are kept between levels
+	// so they only grow a few times per solve.
+	private int[][] discoveredBuffers = new int[0][];
+
+	// Whether the goal has been discovered
+	private volatile boolean goalFound;
+
+	// The maze's dimensions and the index of the goal cell
+	private final int rows, columns, goal;
+
+	/**
+	 * Create a ParallelBfsSolver for a given maze that expands levels on the common fork-join pool
+	 *
+	 * @param maze The maze the ParallelBfsSolver will attempt to solve.
+	 */
+	public ParallelBfsSolver(Maze maze)
+	{
+		this(maze, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a ParallelBfsSolver for a given maze
+	 *
+	 * @param maze The maze the ParallelBfsSolver will attempt to solve.
+	 * @param pool The fork-join pool to expand levels on (its parallelism sets how many threads are used)
+	 */
+	public ParallelBfsSolver(Maze maze, ForkJoinPool pool)
+	{
+		this(new SearchState(maze), pool);
+	}
+
+	/**
+	 * Create a ParallelBfsSolver that records its search in an existing search state and expands levels
+	 * on the common fork-join pool
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the ParallelBfsSolver will solve
+	 */
+	public ParallelBfsSolver(SearchState state)
+	{
+		this(state, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a ParallelBfsSolver that records its search in an existing search state
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the ParallelBfsSolver will solve
+	 * @param pool The fork-join pool to expand levels on (its parallelism sets how many threads are used)
+	 */
+	public ParallelBfsSolver(SearchState state, ForkJoinPool pool)
+	{
+		super(state); // Call the MazeSolver constructor to initialize the maze instance variable
+
+		if (pool == null) throw new IllegalArgumentException("Error - cannot create a solver with a null pool");
+		this.pool = pool;
+		rows = maze.numRows();
+		columns = maze.numColumns();
+		goal = indexOf(maze.getGoalCell());
+		begin();
+	}
+
+	/**
+	 * Set up the first level for a new search, holding just the starting cell
+	 */
+	@Override
+	protected void begin() {
+		goalFound = false;
+		levelSize = 0;
+
+		// The starting cell makes up the first level
+		int start = indexOf(maze.getStartCell());
+		state.setDiscovered(start);
+		level[levelSize++] = start;
+		updatePeakFrontierSize(levelSize);
+	}
+
+	/**
+	 * Step explores a whole BFS level. If the goal was discovered while exploring the previous level,
+	 * then return true. If it is apparent that there is no possible solution, step should return false.
+	 * Otherwise, step should mark the cells in the level as visited, determine which cells make up the
+	 * next level, and return false.
+	 *
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached),
+	 * 		   false otherwise
+	 */
+	@Override
+	public boolean step() {
+		if (status == Status.SOLVED) return true;
+		if (status == Status.NO_SOLUTION) return false;
+
+		if (goalFound) {
+			// Count the goal as visited, like QueueSolver does
+			state.setExplored(goal);
+			numCellsVisited++;
+			status = Status.SOLVED;
+			return true;
+		}
+
+		// If there is nothing left to expand, the goal can't be reached
+		if (levelSize == 0) {
+			status = Status.NO_SOLUTION;
+			return false;
+		}
+
+		expandLevel();
+		return false;
+	}
+
+	/**
+	 * Utility method to expand every cell in the current level, in parallel if the level is large
+	 * enough, and then replace the level with the cells discovered for the next one
+	 */
+	private void expandLevel() {
+		int numChunks = (levelSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		if (discoveredBuffers.length < numChunks) {
+			int oldLength = discoveredBuffers.length;
+			discoveredBuffers = Arrays.copyOf(discoveredBuffers, Math.max(numChunks, oldLength * 2));
+			for (int i = oldLength; i < discoveredBuffers.length; i++) discoveredBuffers[i] = new int[CHUNK_SIZE];
+		}
+
+		// Expand the chunks
+		Chunk[] chunks = new Chunk[numChunks];
+		for (int i = 0; i < numChunks; i++) {
+			chunks[i] = new Chunk(i, i * CHUNK_SIZE, Math.min(levelSize, (i + 1) * CHUNK_SIZE));
+		}
+		if (numChunks == 1) {
+			chunks[0].compute();
+		}
+		else {
+			List<Chunk> tasks = new ArrayList<Chunk>(Arrays.asList(chunks));
+			pool.invoke(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+		}
+
+		// Record the level's cells as explored from this thread alone (the record of changes only takes
+		// one thread at a time), before they are replaced by the next level
+		state.recordChanges(level, levelSize);
+
+		// Concatenate what each chunk discovered to make the next level
+		int nextSize = 0;
+		for (Chunk chunk : chunks) {
+			numCellsVisited += chunk.expanded;
+			duplicatesAvoided += chunk.duplicates;
+			nextSize += chunk.discovered;
+		}
+		if (level.length < nextSize) level = new int[Math.max(nextSize, level.length * 2)];
+		levelSize = 0;
+		for (Chunk chunk : chunks) {
+			System.arraycopy(discoveredBuffers[chunk.index], 0, level, levelSize, chunk.discovered);
+			levelSize += chunk.discovered;
+		}
+		updatePeakFrontierSize(levelSize);
+	}
+
+	/**
+	 * A consecutive run of cells in the current level, expanded by a single thread
+	 *
+	 * @author Mickie Newman
+	 */
+	private final class Chunk extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		// Which chunk this is (and so which discovered buffer it fills), and its range of the level
+		private final int index, from, to;
+
+		// How many cells this chunk expanded and discovered, and how many neighbors it found already discovered
+		private int expanded, discovered, duplicates;
+
+		/**
+		 * Create a chunk of the current level
+		 *
+		 * @param index Which chunk this is
+		 * @param from The position in the level of the first cell in the chunk
+		 * @param to The position in the level just past the last cell in the chunk
+		 */
+		Chunk(int index, int from, int to) {
+			this.index = index;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Expand each cell in the chunk, collecting the neighbors it discovers in the chunk's buffer
+		 */
+		@Override
+		protected void compute() {
+			for (int i = from; i < to; i++) {
+				int cell = level[i];
+				state.setExploredUnrecorded(cell); // Safe without atomics: each cell is in exactly one chunk
+				expanded++;
+
+				int row = cell / columns;
+				int col = cell - row * columns;
+				if (row > 0) discover(cell, cell - columns);
+				if (row < rows - 1) discover(cell, cell + columns);
+				if (col > 0) discover(cell, cell - 1);
+				if (col < columns - 1) discover(cell, cell + 1);
+			}
+		}
+
+		/**
+		 * Utility method to add an open neighbor to the next level if no thread has discovered it yet
+		 *
+		 * @param from The index of the cell being expanded
+		 * @param cell The index of the neighbor
+		 */
+		private void discover(int from, int cell) {
+			if (maze.isWall(cell)) return;
+			if (!state.tryDiscoverConcurrently(cell)) {
+				if (!state.isExplored(cell)) duplicates++;
+				return;
+			}
+
+			setParent(cell, from);
+			if (cell == goal) goalFound = true;
+
+			int[] buffer = discoveredBuffers[index];
+			if (discovered == buffer.length) {
+				buffer = Arrays.copyOf(buffer, discovered * 2);
+				discoveredBuffers[index] = buffer;
+			}
+			buffer[discovered++] = cell;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/* *****************************************************************************
+ * Title:            QueueSolver
+ * Files:            QueueSolver.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A MazeSolver that uses a queue
+ *
+ * Written:
+ *
+ * Credits:          (anything that helped)
+ **************************************************************************** */
+
+package mazesolver;
+
+/**
+ * A MazeSolver that uses a queue to solve the maze. In effect, this implements a
+ * BFS search (we will talk about this more in class). Cells are marked as discovered when they
+ * are enqueued, so each cell is in the queue at most once. The queue holds cell indices in a
+ * primitive IntArrayDeque, so stepping doesn't allocate.
+ *
+ * @author Mickie Newman
+ *
+ */
+public class QueueSolver extends MazeSolver {
+
+	// A queue of cell indices (row * columns + column) that keeps track of what cells should be visited
+	private final IntArrayDeque path = new IntArrayDeque();
+
+	// The maze's dimensions and the index of the goal cell
+	private final int rows, columns, goal;
+
+	/**
+	 * Create a QueueSolver for a given maze
+	 *
+	 * @param maze The maze the QueueSolver will attempt to solve.
+	 */
+	public QueueSolver(Maze maze)
+	{
+		this(new SearchState(maze));
+	}
+
+	/**
+	 * Create a QueueSolver that records its search in an existing search state
+	 *
+	 * @param state The search state to use (and reset); its maze is the one the QueueSolver will solve
+	 */
+	public QueueSolver(SearchState state)
+	{
+		super(state); // Call the MazeSolver constructor to initialize the maze instance variable
+		rows = maze.numRows();
+		columns = maze.numColumns();
+		goal = indexOf(maze.getGoalCell());
+		begin();
+	}
+
+	/**
+	 * Set up the queue for a new search, holding just the starting cell
+	 */
+	@Override
+	protected void begin() {
+		path.clear();
+
+		// Enqueue the starting cell of the maze
+		int start = indexOf(maze.getStartCell());
+		path.addLast(start);
+		state.setDiscovered(start);
+		updatePeakFrontierSize(path.size());
+	}
+
+	/**
+	 * Step explores a single cell. If the cell is the goal, then return true. If it is apparent
+	 * that there is no possible solution, step should return false. Otherwise, step should mark the
+	 * cell as visited, determine which cells should be visited next, and return false.
+	 *
+	 * @return true if this step resulted in the maze being solved (i.e., the goal was reached),
+	 * 		   false otherwise
+	 */
+	@Override
+	public boolean step() {
+		return step(1) == Status.SOLVED;
+	}
+
+	/**
+	 * Take up to n steps, stopping early if the maze is solved or found to have no solution. This is
+	 * the solver's hot loop (a single step is just a batch of one): the status is only checked on the
+	 * way in and when it changes, and the queue, search state and maze are held in locals throughout.
+	 *
+	 * @param n The maximum number of steps to take (must be >= 0)
+	 * @return The solver status after stepping
+	 */
+	@Override
+	public Status step(int n) {
+		checkSteps(n);
+		if (status != Status.UNSOLVED) return status;
+
+		IntArrayDeque path = this.path;
+		SearchState state = this.state;
+		Maze maze = this.maze;
+		for (int i = 0; i < n; i++) {
+
+			// If the queue of cells to visit is empty, no solution is possible
+			if (path.isEmpty()) {
+				status = Status.NO_SOLUTION;
+				break;
+			}
+
+			// Take the first cell in the queue; this is the cell we are currently visiting
+			int cell = path.removeFirst();
+			if (maze.isWall(cell) || state.isExplored(cell)) continue;
+
+			// Mark this cell as visited so we don't revisit it later
+			state.setExplored(cell, ++numCellsVisited);
+
+			// If this cell is the goal, then we've solved the maze
+			if (cell == goal) {
+				status = Status.SOLVED;
+				break;
+			}
+
+			// Otherwise, enqueue all adjacent (up/down/left/right) cells
+			// that are both open and unexplored to the queue for future exploration
+			int row = cell / columns;
+			int col = cell - row * columns;
+			if (row > 0) enqueueIfOpen(cell, cell - columns);
+			if (row < rows - 1) enqueueIfOpen(cell, cell + columns);
+			if (col > 0) enqueueIfOpen(cell, cell - 1);
+			if (col < columns - 1) enqueueIfOpen(cell, cell + 1);
+		}
+		return status;
+	}
+
+	/**
+	 * Utility method to enqueue a cell if it is open and hasn't been enqueued before
+	 *
+	 * @param from The index of the cell being visited
+	 * @param cell The index of the cell
+	 */
+	private void enqueueIfOpen(int from, int cell) {
+		if (maze.isWall(cell) || state.isExplored(cell)) return;
+
+		// Only enqueue cells that aren't already waiting in the queue
+		if (state.isDiscovered(cell)) {
+			duplicatesAvoided++;
+			return;
+		}
+		state.setDiscovered(cell);
+		setParent(cell, from);
+		path.addLast(cell);
+		updatePeakFrontierSize(path.size());
+	}
+}
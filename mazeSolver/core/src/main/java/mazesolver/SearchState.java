@@ -0,0 +1,298 @@
+/* *****************************************************************************
+ * Title:            SearchState
+ * Files:            SearchState.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 What one solver has explored of a maze
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * The mutable state of one search through a maze: which cells have been discovered (reached) and
+ * explored (expanded), the cell each one was reached from, and, optionally, the order in which they
+ * were visited. The Maze itself only holds the layout and is never changed by solving, so each solver
+ * having its own SearchState is what lets several solvers work on the same maze at once.
+ *
+ * Each search is numbered by an epoch, and every cell is stamped with the epoch it was last touched in
+ * (2 * epoch once discovered, 2 * epoch + 1 once explored). Anything stamped with an older epoch
+ * counts as untouched, so reset() only has to move on to the next epoch instead of sweeping every
+ * cell; a real sweep is only needed when the stamps would overflow, about once per billion resets.
+ * Solvers use the same rule for their own per-cell arrays (e.g., distances): a value is only
+ * meaningful for cells discovered in the current search, so those arrays never need clearing either.
+ *
+ * A renderer can ask to be told which cells change (see trackChanges), so it only has to redraw those,
+ * and the order in which cells are explored is then recorded too, so it can be written on them.
+ * Untracked states (e.g., headless solves) pay nothing for either beyond a null check.
+ *
+ * A state should only be used by one solver at a time. Cells are identified by their index
+ * (row * columns + column), so a SearchState can only be created for mazes with at most
+ * Integer.MAX_VALUE cells.
+ *
+ * @author Mickie Newman
+ */
+public final class SearchState {
+
+	// Gives atomic access to the stamps, for solvers that discover cells from several threads
+	private static final VarHandle STAMPS = MethodHandles.arrayElementVarHandle(int[].class);
+
+	// The maze being searched
+	private final Maze maze;
+
+	// For each cell, the stamp of the last search that touched it
+	private final int[] stamps;
+
+	// The stamp cells discovered in the current search get (2 * epoch); explored cells get one more
+	private int discoveredStamp = 2;
+
+	// For each cell discovered in the current search (other than the start), the cell it was reached from
+	private final int[] parents;
+
+	// In what order each cell was explored. This is only allocated once changes are tracked, since most
+	// searches are never drawn.
+	private int[] orderVisited;
+
+	// Where to record cells whose status or order changes (null if nobody is watching)
+	private DirtyCells changes;
+
+	/**
+	 * Create a search state for a maze with nothing explored yet
+	 *
+	 * @param maze The maze being searched
+	 */
+	public SearchState(Maze maze) {
+		if (maze == null) throw new IllegalArgumentException("Error - cannot create a search state for a null maze");
+		if (maze.numCells() > Integer.MAX_VALUE) throw new IllegalArgumentException("Error - maze has "
+				+ maze.numCells() + " cells, more than the maximum of " + Integer.MAX_VALUE + " a search supports");
+
+		this.maze = maze;
+		this.stamps = new int[(int) maze.numCells()];
+		this.parents = new int[(int) maze.numCells()];
+	}
+
+	/**
+	 * Get the maze being searched
+	 *
+	 * @return The maze
+	 */
+	public Maze getMaze() {
+		return maze;
+	}
+
+	/**
+	 * Get the status of the cell at a specified row and column in this search
+	 *
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @return EXPLORED if the cell has been explored, UNEXPLORED otherwise
+	 */
+	public Cell.Status getStatus(int row, int column) {
+		return isExplored(index(row, column)) ? Cell.Status.EXPLORED : Cell.Status.UNEXPLORED;
+	}
+
+	/**
+	 * Get the order in which the cell at a specified row and column was visited (explored) in this search.
+	 * The order is only recorded while changes are tracked (see trackChanges), and only by solvers that
+	 * explore one cell at a time (ParallelBfsSolver explores a whole level at once, so it records none).
+	 *
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @return The order in which the cell was visited (starting from 1), or 0 if no order was recorded
+	 */
+	public int getOrderVisited(int row, int column) {
+		int index = index(row, column);
+		if (orderVisited == null || !isExplored(index)) return 0;
+		return orderVisited[index];
+	}
+
+	/**
+	 * Start (or stop) recording which cells change in this search, e.g., so a renderer can redraw only
+	 * those. Every explored cell is added to the record, and a reset marks every cell as changed. From
+	 * then on the order cells are explored in is recorded as well (see getOrderVisited). This should be
+	 * set before a search runs, not while it is running, and the search should only run on one thread at
+	 * a time (see DirtyCells).
+	 *
+	 * @param changes Where to record changed cells, or null to stop recording them
+	 */
+	public void trackChanges(DirtyCells changes) {
+		this.changes = changes;
+		if (changes != null) {
+			if (orderVisited == null) orderVisited = new int[(int) maze.numCells()];
+			changes.markAll();
+		}
+	}
+
+	/**
+	 * Get where changed cells are being recorded
+	 *
+	 * @return The record of changed cells, or null if changes aren't being recorded
+	 */
+	public DirtyCells getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Forget everything about the current search, so the state can be used for a new search of the same
+	 * maze. This takes constant time (apart from a full sweep about once per billion resets).
+	 */
+	public void reset() {
+		if (discoveredStamp >= Integer.MAX_VALUE - 2) {
+			// The stamps are about to overflow, so really clear them and start counting again
+			Arrays.fill(stamps, 0);
+			discoveredStamp = 2;
+		}
+		else {
+			discoveredStamp += 2;
+		}
+		if (changes != null) changes.markAll();
+	}
+
+	/**
+	 * Move on to the epoch from which a number of resets are left before the one that sweeps the stamps,
+	 * as though all the resets before it had happened, so tests can reach the sweep without a billion
+	 * resets. Like reset, this forgets the current search.
+	 *
+	 * @param resetsLeft How many resets should be left before the sweeping one (must not move the epoch back)
+	 */
+	void skipToSweep(int resetsLeft) {
+		long stamp = Integer.MAX_VALUE - 1 - 2L * resetsLeft;
+		if (resetsLeft < 0 || stamp < discoveredStamp) throw new IllegalArgumentException("Error - cannot skip back to "
+				+ resetsLeft + " resets before the stamps are swept");
+		discoveredStamp = (int) stamp;
+		if (changes != null) changes.markAll();
+	}
+
+	/**
+	 * Check whether the cell at a specified index has been discovered (or explored) in this search
+	 *
+	 * @param index The index of the cell
+	 * @return True if the cell is discovered, false otherwise
+	 */
+	boolean isDiscovered(int index) {
+		return stamps[index] >= discoveredStamp;
+	}
+
+	/**
+	 * Mark the cell at a specified index as discovered, if it isn't already
+	 *
+	 * @param index The index of the cell
+	 */
+	void setDiscovered(int index) {
+		if (stamps[index] < discoveredStamp) stamps[index] = discoveredStamp;
+	}
+
+	/**
+	 * Mark the cell at a specified index as discovered, safely even if other threads are trying to
+	 * discover the same cell at the same time
+	 *
+	 * @param index The index of the cell
+	 * @return True if this call discovered the cell, false if it had already been discovered
+	 */
+	boolean tryDiscoverConcurrently(int index) {
+		int stamp = (int) STAMPS.getVolatile(stamps, index);
+		while (stamp < discoveredStamp) {
+			if (STAMPS.compareAndSet(stamps, index, stamp, discoveredStamp)) return true;
+			stamp = (int) STAMPS.getVolatile(stamps, index);
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the cell at a specified index has been explored in this search
+	 *
+	 * @param index The index of the cell
+	 * @return True if the cell is explored, false otherwise
+	 */
+	boolean isExplored(int index) {
+		return stamps[index] == discoveredStamp + 1;
+	}
+
+	/**
+	 * Mark the cell at a specified index as explored (which also counts as discovered)
+	 *
+	 * @param index The index of the cell
+	 */
+	void setExplored(int index) {
+		stamps[index] = discoveredStamp + 1;
+		if (changes != null) changes.add(index);
+	}
+
+	/**
+	 * Mark the cell at a specified index as explored (which also counts as discovered), recording the
+	 * order it was explored in if the order is being recorded
+	 *
+	 * @param index The index of the cell
+	 * @param order How many cells the solver has explored, including this one
+	 */
+	void setExplored(int index, int order) {
+		if (orderVisited != null) orderVisited[index] = order;
+		setExplored(index);
+	}
+
+	/**
+	 * Mark the cell at a specified index as explored without recording the change, so that several
+	 * threads can explore (different) cells at once. The changes must then be recorded from a single
+	 * thread with recordChanges, since only one thread at a time may add to the record of changes.
+	 *
+	 * @param index The index of the cell
+	 */
+	void setExploredUnrecorded(int index) {
+		stamps[index] = discoveredStamp + 1;
+	}
+
+	/**
+	 * Record that some cells have changed, if changes are being recorded
+	 *
+	 * @param cells The indices of the cells
+	 * @param count How many of the indices to record
+	 */
+	void recordChanges(int[] cells, int count) {
+		if (changes == null) return;
+		for (int i = 0; i < count; i++) {
+			changes.add(cells[i]);
+		}
+	}
+
+	/**
+	 * Record which cell the cell at a specified index was reached from
+	 *
+	 * @param index The index of the cell
+	 * @param parent The index of the cell it was reached from
+	 */
+	void setParent(int index, int parent) {
+		parents[index] = parent;
+	}
+
+	/**
+	 * Get which cell the cell at a specified index was reached from. This is only meaningful for cells
+	 * that were given a parent in this search.
+	 *
+	 * @param index The index of the cell
+	 * @return The index of the cell it was reached from
+	 */
+	int getParent(int index) {
+		return parents[index];
+	}
+
+	/**
+	 * Utility method to get the index of a cell, checking that it is inside the maze
+	 *
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 * @return The cell's index
+	 */
+	private int index(int row, int column) {
+		if (row < 0 || row >= maze.numRows() || column < 0 || column >= maze.numColumns()) {
+			throw new IllegalArgumentException("Error - cell (" + row + ", " + column + ") is outside the maze");
+		}
+		return row * maze.numColumns() + column;
+	}
+}
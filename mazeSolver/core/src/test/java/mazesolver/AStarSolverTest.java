@@ -0,0 +1,98 @@
+/* *****************************************************************************
+ * Title:            AStarSolverTest
+ * Files:            AStarSolverTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks that AStarSolver finds shortest paths with every heuristic
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks that AStarSolver finds a path exactly as short as QueueSolver's BFS with each of its
+ * heuristics (none of which may overestimate, or the first path to the goal could be longer than the
+ * shortest), including on mazes with no solution, and that it finds the same path again after being
+ * reset.
+ *
+ * @author Mickie Newman
+ */
+class AStarSolverTest {
+
+	// The seeds of the generated mazes each heuristic is checked on
+	private static final long[] SEEDS = { 1, 2, 3, 42, 1234, 98765, -7, Long.MAX_VALUE };
+
+	@ParameterizedTest
+	@EnumSource(AStarSolver.Heuristic.class)
+	void carvedMazesMatchQueueSolver(AStarSolver.Heuristic heuristic) {
+		for (long seed : SEEDS) {
+			Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 41, 57, seed);
+			assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(new AStarSolver(maze, heuristic)));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(AStarSolver.Heuristic.class)
+	void randomMazesMatchQueueSolver(AStarSolver.Heuristic heuristic) {
+		for (long seed : SEEDS) {
+			Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed);
+			TestMazes.assertMatchesQueueSolver(new AStarSolver(maze, heuristic));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(AStarSolver.Heuristic.class)
+	void walledOffGoalHasNoSolution(AStarSolver.Heuristic heuristic) {
+		for (long seed : new long[] { 1, 2, 3, 42 }) {
+			Maze maze = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed));
+			assertEquals(MazeSolver.Status.NO_SOLUTION, TestMazes.assertMatchesQueueSolver(new AStarSolver(maze, heuristic)));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(AStarSolver.Heuristic.class)
+	void resetSolverSolvesTheSameWay(AStarSolver.Heuristic heuristic) {
+		Maze solvable = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 9);
+		Maze unsolvable = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 9));
+
+		for (Maze maze : new Maze[] { solvable, unsolvable }) {
+			AStarSolver solver = new AStarSolver(maze, heuristic);
+			MazeSolver.Status status = TestMazes.assertMatchesQueueSolver(solver);
+			int visited = solver.getCellsVisited();
+			int[] path = solver.getSolutionPath();
+
+			// Reset after a finished solve, and part way through one
+			solver.reset();
+			assertSolvesAgain(solver, status, visited, path);
+			solver.reset();
+			solver.step(visited / 2);
+			solver.reset();
+			assertSolvesAgain(solver, status, visited, path);
+		}
+	}
+
+	/**
+	 * Utility method to check that a solver that was just reset solves its maze the same way again
+	 *
+	 * @param solver The solver
+	 * @param status The status of the first solve
+	 * @param visited The cells visited by the first solve
+	 * @param path The path found by the first solve
+	 */
+	private static void assertSolvesAgain(MazeSolver solver, MazeSolver.Status status, int visited, int[] path) {
+		assertEquals(MazeSolver.Status.UNSOLVED, solver.getStatus());
+		assertEquals(0, solver.getCellsVisited());
+		assertEquals(status, solver.solveFast());
+		assertEquals(visited, solver.getCellsVisited());
+		assertArrayEquals(path, solver.getSolutionPath());
+	}
+}
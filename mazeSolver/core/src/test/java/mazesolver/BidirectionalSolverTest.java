@@ -0,0 +1,75 @@
+/* *****************************************************************************
+ * Title:            BidirectionalSolverTest
+ * Files:            BidirectionalSolverTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks that BidirectionalSolver finds shortest, connected paths
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that BidirectionalSolver finds a path exactly as short as QueueSolver's BFS, and that the path
+ * it builds by joining its two searches where they meet leads cell by cell from the start to the goal
+ * (TestMazes.assertMatchesQueueSolver checks both).
+ *
+ * @author Mickie Newman
+ */
+class BidirectionalSolverTest {
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42, 1234, 98765, -7, Long.MAX_VALUE })
+	void carvedMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 41, 57, seed);
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(new BidirectionalSolver(maze)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42, 1234, 98765, -7, Long.MAX_VALUE })
+	void randomMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed);
+		TestMazes.assertMatchesQueueSolver(new BidirectionalSolver(maze));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42 })
+	void walledOffGoalHasNoSolution(long seed) {
+		Maze maze = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed));
+		assertEquals(MazeSolver.Status.NO_SOLUTION, TestMazes.assertMatchesQueueSolver(new BidirectionalSolver(maze)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 4, 5 })
+	void corridorsJoinAtTheMeetingCell(int between) {
+		// Corridors of odd and even lengths, so the searches meet after both have taken the same number
+		// of steps or after one has taken one more
+		StringBuilder row = new StringBuilder("#S");
+		for (int i = 0; i < between; i++) row.append('.');
+		row.append("G#");
+		String wall = "#".repeat(row.length());
+		Maze maze = TestMazes.fromText(row.length() + " 3\n" + wall + "\n" + row + "\n" + wall + "\n");
+
+		BidirectionalSolver solver = new BidirectionalSolver(maze);
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(solver));
+		assertEquals(between + 2, solver.getSolutionLength());
+	}
+
+	@Test
+	void startNextToGoal() {
+		Maze maze = TestMazes.fromText("4 3\n####\n#SG#\n####\n");
+		BidirectionalSolver solver = new BidirectionalSolver(maze);
+		assertEquals(MazeSolver.Status.SOLVED, solver.solveFast());
+		assertArrayEquals(new int[] { 5, 6 }, solver.getSolutionPath());
+	}
+}
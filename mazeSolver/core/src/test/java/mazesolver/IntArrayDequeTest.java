@@ -0,0 +1,130 @@
+/* *****************************************************************************
+ * Title:            IntArrayDequeTest
+ * Files:            IntArrayDequeTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks the primitive int deque used as QueueSolver's frontier
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that IntArrayDeque behaves like java.util.ArrayDeque, in particular when it grows while its
+ * values wrap around the end of the array (so they have to be unwrapped into the new one), and that
+ * removing from an empty deque is rejected.
+ *
+ * @author Mickie Newman
+ */
+class IntArrayDequeTest {
+
+	@Test
+	void growsWhileWrappedAtTheEnd() {
+		IntArrayDeque deque = new IntArrayDeque(4);
+		deque.addLast(1);
+		deque.addLast(2);
+		deque.addLast(3);
+		assertEquals(1, deque.removeFirst());
+		assertEquals(2, deque.removeFirst());
+
+		// The head is now at 2, so these wrap around to the start of the array before it is full
+		deque.addLast(4);
+		deque.addLast(5);
+		deque.addLast(6);
+		deque.addLast(7);
+		deque.addLast(8);
+
+		assertEquals(6, deque.size());
+		for (int value = 3; value <= 8; value++) assertEquals(value, deque.removeFirst());
+		assertTrue(deque.isEmpty());
+	}
+
+	@Test
+	void growsWhileWrappedAtTheFront() {
+		IntArrayDeque deque = new IntArrayDeque(4);
+
+		// Adding to the front of an empty deque wraps the head around to the end of the array
+		deque.addFirst(3);
+		deque.addFirst(2);
+		deque.addLast(4);
+		deque.addFirst(1);
+		deque.addLast(5);
+
+		assertEquals(5, deque.size());
+		assertEquals(1, deque.peekFirst());
+		assertEquals(5, deque.removeLast());
+		for (int value = 1; value <= 4; value++) assertEquals(value, deque.removeFirst());
+		assertTrue(deque.isEmpty());
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3 })
+	void matchesArrayDeque(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		IntArrayDeque deque = new IntArrayDeque(1);
+		ArrayDeque<Integer> expected = new ArrayDeque<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			// Add a little more often than remove, so the deque keeps growing (at every possible head)
+			int value = random.nextInt();
+			switch (random.nextInt(9)) {
+				case 0: case 1: deque.addLast(value); expected.addLast(value); break;
+				case 2: case 3: deque.addFirst(value); expected.addFirst(value); break;
+				case 4: if (!expected.isEmpty()) assertEquals(expected.peekFirst(), deque.peekFirst()); break;
+				case 5: case 6: if (!expected.isEmpty()) assertEquals(expected.removeFirst(), deque.removeFirst()); break;
+				case 7: if (!expected.isEmpty()) assertEquals(expected.removeLast(), deque.removeLast()); break;
+				default: if (random.nextInt(1000) == 0) { deque.clear(); expected.clear(); }
+			}
+			assertEquals(expected.size(), deque.size());
+		}
+		while (!expected.isEmpty()) assertEquals(expected.removeFirst(), deque.removeFirst());
+		assertTrue(deque.isEmpty());
+	}
+
+	@Test
+	void removingFromAnEmptyDequeIsRejected() {
+		IntArrayDeque deque = new IntArrayDeque();
+		assertEmptyRejected(deque);
+
+		deque.addLast(1);
+		deque.removeLast();
+		assertEmptyRejected(deque);
+
+		deque.addFirst(1);
+		deque.clear();
+		assertEmptyRejected(deque);
+	}
+
+	@Test
+	void badCapacityIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new IntArrayDeque(0));
+		assertThrows(IllegalArgumentException.class, () -> new IntArrayDeque((1 << 30) + 1));
+	}
+
+	/**
+	 * Utility method to check that every way of taking a value from an empty deque is rejected
+	 *
+	 * @param deque The (empty) deque
+	 */
+	private static void assertEmptyRejected(IntArrayDeque deque) {
+		assertTrue(deque.isEmpty());
+		assertThrows(IllegalStateException.class, deque::peekFirst);
+		assertThrows(IllegalStateException.class, deque::removeFirst);
+		assertThrows(IllegalStateException.class, deque::removeLast);
+		assertEquals(0, deque.size());
+	}
+}
@@ -0,0 +1,88 @@
+/* *****************************************************************************
+ * Title:            IntMinHeapTest
+ * Files:            IntMinHeapTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks the primitive int heap used as AStarSolver's frontier
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that IntMinHeap removes values in the same order as a java.util.PriorityQueue ordered by
+ * priority and then value (including duplicates of the same value, as AStarSolver adds), and that
+ * bad entries and taking from an empty heap are rejected.
+ *
+ * @author Mickie Newman
+ */
+class IntMinHeapTest {
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3 })
+	void matchesPriorityQueue(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		IntMinHeap heap = new IntMinHeap();
+		PriorityQueue<long[]> expected = new PriorityQueue<>((a, b) -> a[0] != b[0]
+				? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+		for (int i = 0; i < 100_000; i++) {
+			// Add more often than remove, so the heap keeps growing; values and priorities repeat
+			if (random.nextInt(5) < 3 || expected.isEmpty()) {
+				int value = random.nextInt(1000), priority = random.nextInt(100);
+				heap.add(value, priority);
+				expected.add(new long[] { priority, value });
+			}
+			else {
+				assertEquals(expected.peek()[0], heap.peekPriority());
+				assertEquals(expected.poll()[1], heap.removeMin());
+			}
+			assertEquals(expected.size(), heap.size());
+		}
+		while (!expected.isEmpty()) assertEquals(expected.poll()[1], heap.removeMin());
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void extremeEntriesKeepTheirOrder() {
+		IntMinHeap heap = new IntMinHeap();
+		heap.add(Integer.MAX_VALUE, Integer.MAX_VALUE);
+		heap.add(0, Integer.MAX_VALUE);
+		heap.add(Integer.MAX_VALUE, 0);
+		heap.add(0, 0);
+
+		assertEquals(0, heap.removeMin());
+		assertEquals(Integer.MAX_VALUE, heap.removeMin());
+		assertEquals(Integer.MAX_VALUE, heap.peekPriority());
+		assertEquals(0, heap.removeMin());
+		assertEquals(Integer.MAX_VALUE, heap.removeMin());
+	}
+
+	@Test
+	void badEntriesAndEmptyRemovalsAreRejected() {
+		IntMinHeap heap = new IntMinHeap();
+		assertThrows(IllegalArgumentException.class, () -> heap.add(-1, 0));
+		assertThrows(IllegalArgumentException.class, () -> heap.add(0, -1));
+		assertThrows(IllegalStateException.class, heap::peekPriority);
+		assertThrows(IllegalStateException.class, heap::removeMin);
+
+		heap.add(1, 1);
+		heap.clear();
+		assertTrue(heap.isEmpty());
+		assertThrows(IllegalStateException.class, heap::removeMin);
+	}
+}
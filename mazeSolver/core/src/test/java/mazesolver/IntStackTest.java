@@ -0,0 +1,77 @@
+/* *****************************************************************************
+ * Title:            IntStackTest
+ * Files:            IntStackTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks the primitive int stack used as StackSolver's frontier
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that IntStack pops values in the reverse of the order they were pushed, keeping them when it
+ * grows (including from a capacity that isn't a power of two), and that taking a value from an empty
+ * stack is rejected.
+ *
+ * @author Mickie Newman
+ */
+class IntStackTest {
+
+	@Test
+	void popsInReverseOrderAcrossGrowth() {
+		IntStack stack = new IntStack(3);
+		for (int value = 0; value < 1000; value++) {
+			stack.push(value);
+			assertEquals(value, stack.peek());
+		}
+		assertEquals(1000, stack.size());
+
+		for (int value = 999; value >= 0; value--) assertEquals(value, stack.pop());
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	void pushingAfterPoppingReusesTheStack() {
+		IntStack stack = new IntStack(1);
+		stack.push(1);
+		stack.push(2);
+		assertEquals(2, stack.pop());
+		stack.push(3);
+		stack.push(4);
+
+		assertEquals(4, stack.pop());
+		assertEquals(3, stack.pop());
+		assertEquals(1, stack.pop());
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	void takingFromAnEmptyStackIsRejected() {
+		IntStack stack = new IntStack();
+		assertThrows(IllegalStateException.class, stack::peek);
+		assertThrows(IllegalStateException.class, stack::pop);
+
+		stack.push(1);
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		assertThrows(IllegalStateException.class, stack::peek);
+		assertThrows(IllegalStateException.class, stack::pop);
+		assertEquals(0, stack.size());
+	}
+
+	@Test
+	void badCapacityIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new IntStack(0));
+		assertThrows(IllegalArgumentException.class, () -> new IntStack((1 << 30) + 1));
+	}
+}
@@ -0,0 +1,66 @@
+/* *****************************************************************************
+ * Title:            JumpPointSolverTest
+ * Files:            JumpPointSolverTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks that JumpPointSolver finds shortest paths
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that JumpPointSolver finds a path exactly as short as QueueSolver's BFS on seeded mazes, both
+ * carved ones (a single path) and random ones (open areas with many paths, where jumping matters), and
+ * that it finds there is no path when there isn't one.
+ *
+ * @author Mickie Newman
+ */
+class JumpPointSolverTest {
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42, 1234, 98765, -7, Long.MAX_VALUE })
+	void carvedMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 41, 57, seed);
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(new JumpPointSolver(maze)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42, 1234, 98765, -7, Long.MAX_VALUE })
+	void randomMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed);
+		TestMazes.assertMatchesQueueSolver(new JumpPointSolver(maze));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3, 42 })
+	void walledOffGoalHasNoSolution(long seed) {
+		Maze maze = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, seed));
+		assertEquals(MazeSolver.Status.NO_SOLUTION, TestMazes.assertMatchesQueueSolver(new JumpPointSolver(maze)));
+	}
+
+	@Test
+	void openRoomMatchesQueueSolver() {
+		Maze maze = TestMazes.fromText("12 10\n"
+				+ "############\n"
+				+ "#S.........#\n"
+				+ "#..........#\n"
+				+ "#...####...#\n"
+				+ "#......#...#\n"
+				+ "#......#...#\n"
+				+ "#...####...#\n"
+				+ "#..........#\n"
+				+ "#.........G#\n"
+				+ "############\n");
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(new JumpPointSolver(maze)));
+	}
+}
@@ -0,0 +1,174 @@
+/* *****************************************************************************
+ * Title:            MazeBatchSolverTest
+ * Files:            MazeBatchSolverTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks solving streams of mazes concurrently
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that MazeBatchSolver returns exactly one result per maze (in whatever order the solves
+ * finish) with the same outcome as solving each maze on its own, that files which can't be loaded give
+ * errors without stopping the batch, that the input is only consumed as results are, and that the
+ * mazes themselves are never changed.
+ *
+ * @author Mickie Newman
+ */
+class MazeBatchSolverTest {
+
+	// The number of worker threads, so that several mazes are always being solved at once
+	private static final int THREADS = 4;
+
+	@Test
+	void everyMazeComesBackOnceWithTheSameResultAsQueueSolver() {
+		List<Maze> mazes = mixedMazes(200);
+
+		List<MazeBatchSolver.Result> results;
+		try (MazeBatchSolver batch = new MazeBatchSolver(MazeSolver.Type.QUEUE, THREADS)) {
+			results = batch.solve(mazes.stream()).collect(Collectors.toList());
+		}
+
+		assertEquals(mazes.size(), results.size());
+		boolean[] seen = new boolean[mazes.size()];
+		for (MazeBatchSolver.Result result : results) {
+			int index = (int) result.getIndex();
+			assertFalse(seen[index], "maze " + index + " came back twice");
+			seen[index] = true;
+			assertNull(result.getError(), result.toString());
+
+			QueueSolver reference = new QueueSolver(mazes.get(index));
+			assertEquals(reference.solveFast(), result.getStatus(), "status of maze " + index);
+			assertEquals(reference.getCellsVisited(), result.getCellsVisited(), "cells visited in maze " + index);
+			assertEquals(reference.getSolutionLength(), result.getPathLength(), "path length of maze " + index);
+		}
+	}
+
+	@Test
+	void unreadableFilesGiveErrorsWithoutStoppingTheBatch(@TempDir Path directory) throws IOException {
+		List<Maze> mazes = mixedMazes(12);
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < mazes.size(); i++) {
+			File file = directory.resolve("maze" + i + (i % 2 == 0 ? ".txt" : Maze.BINARY_EXTENSION)).toFile();
+			assertTrue(i % 2 == 0 ? mazes.get(i).save(file) : mazes.get(i).saveBinary(file, true));
+			files.add(file);
+		}
+
+		// A file that doesn't exist and one that isn't a maze, in the middle of the batch
+		File missing = directory.resolve("missing.txt").toFile();
+		File garbage = directory.resolve("garbage.txt").toFile();
+		Files.writeString(garbage.toPath(), "not a maze");
+		files.add(3, missing);
+		files.add(8, garbage);
+
+		List<MazeBatchSolver.Result> results;
+		try (MazeBatchSolver batch = new MazeBatchSolver(MazeSolver.Type.ASTAR, THREADS)) {
+			results = batch.solveFiles(files.stream()).collect(Collectors.toList());
+		}
+
+		assertEquals(files.size(), results.size());
+		for (MazeBatchSolver.Result result : results) {
+			File file = files.get((int) result.getIndex());
+			if (file == missing || file == garbage) {
+				assertNotNull(result.getError(), file.getName() + " didn't fail");
+				assertNull(result.getStatus());
+			}
+			else {
+				assertNull(result.getError(), result.toString());
+				Maze maze = mazes.get(Integer.parseInt(file.getName().replaceAll("\\D", "")));
+				QueueSolver reference = new QueueSolver(maze);
+				assertEquals(reference.solveFast(), result.getStatus(), "status of " + file.getName());
+				assertEquals(reference.getSolutionLength(), result.getPathLength(), "path length of " + file.getName());
+			}
+		}
+	}
+
+	@Test
+	void emptyStreamGivesNoResults() {
+		try (MazeBatchSolver batch = new MazeBatchSolver(MazeSolver.Type.STACK, THREADS)) {
+			assertEquals(0, batch.solve(Stream.empty()).count());
+			assertEquals(0, batch.solveFiles(Stream.empty()).count());
+		}
+	}
+
+	@Test
+	void repeatedMazeIsNotChanged() {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 301, 299, 6);
+		String before = maze.toString();
+		QueueSolver reference = new QueueSolver(maze);
+		reference.solveFast();
+
+		List<MazeBatchSolver.Result> results;
+		try (MazeBatchSolver batch = new MazeBatchSolver(MazeSolver.Type.QUEUE, THREADS)) {
+			results = batch.solve(Collections.nCopies(50, maze).stream()).collect(Collectors.toList());
+		}
+
+		assertEquals(50, results.size());
+		for (MazeBatchSolver.Result result : results) {
+			assertEquals(reference.getStatus(), result.getStatus());
+			assertEquals(reference.getCellsVisited(), result.getCellsVisited());
+			assertEquals(reference.getSolutionLength(), result.getPathLength());
+		}
+		assertEquals(before, maze.toString());
+		assertEquals(reference.getStatus(), new QueueSolver(maze).solveFast());
+	}
+
+	@Test
+	void inputIsOnlyTakenAsResultsAreConsumed() {
+		AtomicInteger taken = new AtomicInteger();
+		Stream<Maze> endless = Stream.generate(() -> MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 20, 20,
+				taken.incrementAndGet()));
+
+		try (MazeBatchSolver batch = new MazeBatchSolver(MazeSolver.Type.QUEUE, THREADS)) {
+			Iterator<MazeBatchSolver.Result> results = batch.solve(endless).iterator();
+			for (int i = 0; i < 100; i++) {
+				assertNotNull(results.next());
+
+				// At most two mazes per worker may be taken ahead of the results
+				assertTrue(taken.get() <= i + 1 + 2 * THREADS, taken.get() + " mazes taken for " + (i + 1) + " results");
+			}
+		}
+	}
+
+	/**
+	 * Utility method to generate mazes of very different sizes and kinds, so that their solves finish
+	 * out of order
+	 *
+	 * @param count The number of mazes
+	 * @return The mazes
+	 */
+	private static List<Maze> mixedMazes(int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			int size = i % 5 == 0 ? 301 : 11 + i % 17;
+			MazeGenerator.Algorithm algorithm = MazeGenerator.Algorithm.values()[i % MazeGenerator.Algorithm.values().length];
+			return MazeGenerator.generate(algorithm, size, size + i % 3, i);
+		}).collect(Collectors.toList());
+	}
+}
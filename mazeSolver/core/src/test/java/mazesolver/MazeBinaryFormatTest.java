@@ -0,0 +1,159 @@
+/* *****************************************************************************
+ * Title:            MazeBinaryFormatTest
+ * Files:            MazeBinaryFormatTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks saving and loading mazes in the binary format
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that MazeBinaryWriter and MazeBinaryReader round-trip mazes exactly, with and without
+ * compression, including mazes whose cells don't fill a whole number of bytes (so the last byte is
+ * padded) or a whole number of buffers, and that damaged files are rejected.
+ *
+ * @author Mickie Newman
+ */
+class MazeBinaryFormatTest {
+
+	@ParameterizedTest
+	@CsvSource({
+		"10, 10, false", "10, 10, true",
+		"11, 13, false", "11, 13, true",
+		"17, 31, false", "17, 31, true",
+		"1001, 523, false", "1001, 523, true" // more than one buffer of packed cells
+	})
+	void generatedMazesRoundTrip(int rows, int columns, boolean compress) throws IOException {
+		for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+			Maze maze = MazeGenerator.generate(algorithm, rows, columns, rows * 31L + columns);
+			TestMazes.assertSameMaze(maze, read(write(maze, compress)));
+		}
+	}
+
+	@Test
+	void uncompressedLayoutMatchesTheFormat() throws IOException {
+		// 4 x 3 = 12 cells: one full byte and half a byte of padding
+		Maze maze = TestMazes.fromText("4 3\n#S.#\n#.G#\n####\n");
+		byte[] bytes = write(maze, false);
+
+		assertArrayEquals(new byte[] {
+			'M', 'A', 'Z', 'B', 1, 0,
+			0, 0, 0, 4, 0, 0, 0, 3, // columns, rows
+			0, 0, 0, 0, 0, 0, 0, 1, // start
+			0, 0, 0, 1, 0, 0, 0, 2, // goal
+			(byte) 0b0110_0110, 0b0000_0000
+		}, bytes);
+	}
+
+	@Test
+	void compressionShrinksLargeMazes() throws IOException {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 1001, 1001, 5);
+		byte[] raw = write(maze, false), compressed = write(maze, true);
+
+		assertEquals(30 + (1001L * 1001 + 7) / 8, raw.length);
+		assertTrue(compressed.length < raw.length, compressed.length + " >= " + raw.length);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void savedMazeLoadsBack(boolean compress, @TempDir Path directory) throws IOException {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 37, 53, 3);
+		File file = directory.resolve("maze" + Maze.BINARY_EXTENSION).toFile();
+		assertTrue(maze.saveBinary(file, compress));
+
+		TestMazes.assertSameMaze(maze, new Maze(file));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void truncatedCellsAreRejected(boolean compress) throws IOException {
+		byte[] bytes = write(MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 33, 35, 9), compress);
+		assertRejected("ended after", Arrays.copyOf(bytes, bytes.length - 20));
+	}
+
+	@Test
+	void damagedHeadersAreRejected() throws IOException {
+		byte[] bytes = write(TestMazes.fromText("4 3\n#S.#\n#.G#\n####\n"), false);
+
+		assertRejected("header is incomplete", Arrays.copyOf(bytes, 20));
+		assertRejected("unsupported binary maze version 2", with(bytes, 4, 2));
+		assertRejected("unknown compression 7", with(bytes, 5, 7));
+		assertRejected("starting location is outside the maze", with(bytes, 17, 3));
+		assertRejected("goal location is outside the maze", with(bytes, 29, 4));
+		assertRejected("starting and goal locations are the same cell", with(with(bytes, 17, 1), 21, 2));
+	}
+
+	/**
+	 * Utility method to write a maze in the binary format
+	 *
+	 * @param maze The maze
+	 * @param compress Whether to compress the cells
+	 * @return The bytes written
+	 * @throws IOException If an issue occurs writing the maze
+	 */
+	private static byte[] write(Maze maze, boolean compress) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MazeBinaryWriter.write(maze, out, compress);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Utility method to read a maze in the binary format
+	 *
+	 * @param bytes The bytes of the maze
+	 * @return The maze
+	 * @throws IOException If an issue occurs reading the maze
+	 */
+	private static Maze read(byte[] bytes) throws IOException {
+		return MazeBinaryReader.read(new ByteArrayInputStream(bytes), "test");
+	}
+
+	/**
+	 * Utility method to check that a maze can't be read from some bytes
+	 *
+	 * @param message What the error message should say
+	 * @param bytes The bytes
+	 */
+	private static void assertRejected(String message, byte[] bytes) {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(bytes));
+		assertTrue(e.getMessage().startsWith("Error - "), e.getMessage());
+		assertTrue(e.getMessage().contains(message), e.getMessage());
+	}
+
+	/**
+	 * Utility method to copy some bytes with one of them changed
+	 *
+	 * @param bytes The bytes
+	 * @param index Which byte to change
+	 * @param value The byte's new value
+	 * @return The changed copy
+	 */
+	private static byte[] with(byte[] bytes, int index, int value) {
+		byte[] copy = bytes.clone();
+		copy[index] = (byte) value;
+		return copy;
+	}
+}
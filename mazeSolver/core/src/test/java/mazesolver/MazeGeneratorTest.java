@@ -0,0 +1,119 @@
+/* *****************************************************************************
+ * Title:            MazeGeneratorTest
+ * Files:            MazeGeneratorTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks that seeded maze generation is reproducible and can be watched
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks that the same algorithm, size and seed always generate the same maze (including the exact
+ * mazes a couple of seeds have always generated, so regression inputs can't silently change), that
+ * different seeds generate different mazes, and that a listener is told about every cell that ends up
+ * different from the all-wall maze generation starts with.
+ *
+ * @author Mickie Newman
+ */
+class MazeGeneratorTest {
+
+	@ParameterizedTest
+	@EnumSource(MazeGenerator.Algorithm.class)
+	void sameSeedGivesTheSameMaze(MazeGenerator.Algorithm algorithm) {
+		for (long seed : new long[] { 0, 1, 42, -7, Long.MAX_VALUE }) {
+			Maze first = MazeGenerator.generate(algorithm, 53, 71, seed);
+			Maze second = MazeGenerator.generate(algorithm, 53, 71, seed);
+			TestMazes.assertSameMaze(first, second);
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeGenerator.Algorithm.class)
+	void differentSeedsGiveDifferentMazes(MazeGenerator.Algorithm algorithm) {
+		String[] mazes = new String[20];
+		for (int seed = 0; seed < mazes.length; seed++) {
+			mazes[seed] = MazeGenerator.generate(algorithm, 53, 71, seed).toString();
+		}
+		assertEquals(mazes.length, Arrays.stream(mazes).distinct().count(), "two seeds generated the same maze");
+	}
+
+	@Test
+	void seedsKeepGeneratingTheSameMazes() {
+		assertEquals(
+			"##.#.#.#.#.#\n" +
+			"##.#.......#\n" +
+			"#....#.#.#.G\n" +
+			"..#.##....##\n" +
+			"#..#S..##.##\n" +
+			"..#.#.#.#...\n" +
+			"#........#.#\n" +
+			"#.##.#.##...\n" +
+			"..........##\n" +
+			"#.#.##.#.###\n",
+			MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 10, 12, 2021).toString());
+		assertEquals(
+			"############\n" +
+			"##...#..#.##\n" +
+			"#.#.#....###\n" +
+			"#.S.#...#..#\n" +
+			"#..#....#.##\n" +
+			"##.#.###..##\n" +
+			"#..##....#.#\n" +
+			"###...#.##.#\n" +
+			"#.#..#G....#\n" +
+			"############\n",
+			MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 10, 12, 2021).toString());
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeGenerator.Algorithm.class)
+	void listenerSeesEveryChangedCell(MazeGenerator.Algorithm algorithm) {
+		// Replay the changes the listener is told about on a copy of the maze as generation started
+		int rows = 37, columns = 45;
+		char[][] replayed = new char[rows][];
+		int[] changes = new int[1];
+		Maze[] started = new Maze[1];
+		Maze maze = MazeGenerator.generate(algorithm, rows, columns, 5, new MazeGenerator.Listener() {
+			@Override public void started(Maze generating) {
+				started[0] = generating;
+				for (int row = 0; row < rows; row++) {
+					for (int column = 0; column < columns; column++) {
+						assertEquals(Cell.Type.WALL, generating.getType(row, column), "cell didn't start as a wall");
+					}
+					replayed[row] = new char[columns];
+					Arrays.fill(replayed[row], '#');
+				}
+			}
+
+			@Override public void cellChanged(Maze generating, int row, int column) {
+				assertSame(started[0], generating);
+				replayed[row][column] = Cell.charOf(generating.getType(row, column));
+				changes[0]++;
+			}
+		});
+
+		assertSame(started[0], maze);
+		StringBuilder text = new StringBuilder();
+		for (char[] row : replayed) text.append(row).append('\n');
+		assertEquals(maze.toString(), text.toString());
+		assertNotEquals(0, changes[0]);
+
+		// Watching doesn't change what is generated
+		TestMazes.assertSameMaze(MazeGenerator.generate(algorithm, rows, columns, 5), maze);
+	}
+}
@@ -0,0 +1,105 @@
+/* *****************************************************************************
+ * Title:            MazeSolverStepTest
+ * Files:            MazeSolverStepTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks taking several solver steps at once
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks that step(n) takes exactly the steps that n calls to step() would (so solvers with their own
+ * batched loops count steps the same way as the base loop), stops as soon as the maze is solved or
+ * found to have no solution, and rejects negative step counts.
+ *
+ * @author Mickie Newman
+ */
+class MazeSolverStepTest {
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void batchesMatchSingleSteps(MazeSolver.Type type) {
+		for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+			for (int batch : new int[] { 1, 2, 7, 64 }) {
+				Maze maze = MazeGenerator.generate(algorithm, 41, 57, batch);
+				assertBatchesMatchSingleSteps(MazeSolver.create(type, maze), MazeSolver.create(type, maze), batch);
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void batchesMatchSingleStepsWithNoSolution(MazeSolver.Type type) {
+		Maze maze = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 41, 57, 5));
+		assertEquals(MazeSolver.Status.NO_SOLUTION,
+				assertBatchesMatchSingleSteps(MazeSolver.create(type, maze), MazeSolver.create(type, maze), 5));
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void finishedSolverTakesNoMoreSteps(MazeSolver.Type type) {
+		Maze solvable = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 41, 57, 3);
+		Maze unsolvable = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 41, 57, 3));
+
+		for (Maze maze : new Maze[] { solvable, unsolvable }) {
+			MazeSolver solver = MazeSolver.create(type, maze);
+			MazeSolver.Status status = solver.step(Integer.MAX_VALUE);
+			assertTrue(status != MazeSolver.Status.UNSOLVED, "a batch of Integer.MAX_VALUE steps didn't finish");
+
+			int visited = solver.getCellsVisited();
+			int length = solver.getSolutionLength();
+			assertEquals(status, solver.step(100));
+			assertEquals(status == MazeSolver.Status.SOLVED, solver.step());
+			assertEquals(visited, solver.getCellsVisited());
+			assertEquals(length, solver.getSolutionLength());
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void zeroStepsChangeNothing(MazeSolver.Type type) {
+		MazeSolver solver = MazeSolver.create(type, MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 20, 20, 1));
+		assertEquals(MazeSolver.Status.UNSOLVED, solver.step(0));
+		assertEquals(0, solver.getCellsVisited());
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void negativeStepsAreRejected(MazeSolver.Type type) {
+		MazeSolver solver = MazeSolver.create(type, MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 20, 20, 1));
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> solver.step(-1));
+		assertTrue(e.getMessage().startsWith("Error - "), e.getMessage());
+		assertEquals(0, solver.getCellsVisited());
+	}
+
+	/**
+	 * Utility method to solve a maze with one solver in batches of steps and another one step at a time,
+	 * checking after every batch that both have taken the same steps
+	 *
+	 * @param batched The solver stepped in batches
+	 * @param single The solver stepped one step at a time (of the same type, on the same maze)
+	 * @param batch The number of steps in each batch
+	 * @return The final status of both solvers
+	 */
+	private static MazeSolver.Status assertBatchesMatchSingleSteps(MazeSolver batched, MazeSolver single, int batch) {
+		while (single.getStatus() == MazeSolver.Status.UNSOLVED) {
+			for (int i = 0; i < batch; i++) single.step();
+			assertEquals(single.getStatus(), batched.step(batch));
+			assertEquals(single.getCellsVisited(), batched.getCellsVisited());
+		}
+		assertEquals(single.getSolutionLength(), batched.getSolutionLength());
+		return single.getStatus();
+	}
+}
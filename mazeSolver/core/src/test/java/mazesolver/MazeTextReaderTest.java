@@ -0,0 +1,146 @@
+/* *****************************************************************************
+ * Title:            MazeTextReaderTest
+ * Files:            MazeTextReaderTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks loading mazes in the text format
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that mazes in the text format load back exactly as they were written whichever line endings
+ * the file uses (including files bigger than the reader's buffer, so lines and line endings are split
+ * between reads), and that badly laid out files are rejected.
+ *
+ * @author Mickie Newman
+ */
+class MazeTextReaderTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\n", "\r\n", "\r" })
+	void smallMazeRoundTrips(String lineEnding) {
+		String rows = "#######\n#...#G#\n#S#...#\n#######\n";
+		Maze maze = TestMazes.fromText(withLineEndings("7 4\n" + rows, lineEnding));
+
+		assertEquals(rows, maze.toString());
+		assertEquals(2, maze.getStartCell().getRow());
+		assertEquals(1, maze.getStartCell().getColumn());
+		assertEquals(1, maze.getGoalCell().getRow());
+		assertEquals(5, maze.getGoalCell().getColumn());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\n", "\r\n", "\r" })
+	void largeMazeRoundTrips(String lineEnding) {
+		// Over a megabyte, so the file takes more than one buffer to read
+		Maze generated = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 1023, 1201, 7);
+		String text = generated.numColumns() + " " + generated.numRows() + "\n" + generated;
+		TestMazes.assertSameMaze(generated, TestMazes.fromText(withLineEndings(text, lineEnding)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\n", "\r\n", "\r" })
+	void loadedMazeSavesTheSameText(String lineEnding, @TempDir Path directory) throws IOException {
+		Maze generated = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 37, 53, 11);
+		String text = generated.numColumns() + " " + generated.numRows() + "\n" + generated;
+		Maze maze = TestMazes.fromText(withLineEndings(text, lineEnding));
+
+		File file = directory.resolve("maze.txt").toFile();
+		assertTrue(maze.save(file));
+		String saved = Files.readString(file.toPath(), StandardCharsets.US_ASCII);
+		assertEquals(text, saved.replace(System.lineSeparator(), "\n"));
+		TestMazes.assertSameMaze(generated, new Maze(file));
+	}
+
+	@Test
+	void surroundingWhitespaceAndShortRowsAreAllowed() {
+		Maze maze = TestMazes.fromText("5 3\n  #S.G#  \n\t##\n#####");
+		assertEquals("#S.G#\n#####\n#####\n", maze.toString());
+	}
+
+	@Test
+	void tooManyRowsAreRejected() {
+		assertRejected("more than 2 rows", "4 2\n#SG#\n####\n####\n");
+	}
+
+	@Test
+	void tooManyColumnsAreRejected() {
+		assertRejected("row 1 has more than 4 columns", "4 2\n#SG#\n#####\n");
+	}
+
+	@Test
+	void secondStartIsRejected() {
+		assertRejected("more than one starting location", "5 2\n#SGS#\n#####\n");
+	}
+
+	@Test
+	void secondGoalIsRejected() {
+		assertRejected("more than one goal location", "5 2\n#SGG#\n#####\n");
+	}
+
+	@Test
+	void unknownCharacterIsRejected() {
+		assertRejected("unknown square type specified: x", "4 2\n#SG#\n#x##\n");
+	}
+
+	@Test
+	void spaceInsideRowIsRejected() {
+		assertRejected("unknown square type specified:  ", "4 2\n#SG#\n# ##\n");
+	}
+
+	@Test
+	void missingStartOrGoalIsRejected() {
+		assertRejected("no starting location", "4 2\n#.G#\n####\n");
+		assertRejected("no goal location", "4 2\n#S.#\n####\n");
+	}
+
+	@Test
+	void badHeaderIsRejected() {
+		assertRejected("should start with columns and rows", "4\n#SG#\n");
+		assertRejected("expecting number of rows, got x", "4 x\n#SG#\n");
+		assertRejected("must be >= 0", "4 -1\n#SG#\n");
+	}
+
+	/**
+	 * Utility method to check that a maze can't be loaded from some text
+	 *
+	 * @param message What the error message should say
+	 * @param text The text of the maze
+	 */
+	private static void assertRejected(String message, String text) {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> TestMazes.fromText(text));
+		assertTrue(e.getMessage().startsWith("Error - "), e.getMessage());
+		assertTrue(e.getMessage().contains(message), e.getMessage());
+	}
+
+	/**
+	 * Utility method to change the line endings of some text
+	 *
+	 * @param text The text, with lines ending in "\n"
+	 * @param lineEnding The line ending to use instead
+	 * @return The text with the new line endings
+	 */
+	private static String withLineEndings(String text, String lineEnding) {
+		return text.replace("\n", lineEnding);
+	}
+}
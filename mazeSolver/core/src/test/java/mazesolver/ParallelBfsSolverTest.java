@@ -0,0 +1,100 @@
+/* *****************************************************************************
+ * Title:            ParallelBfsSolverTest
+ * Files:            ParallelBfsSolverTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks that ParallelBfsSolver finds the same paths as a sequential BFS
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that ParallelBfsSolver agrees with QueueSolver on whether large seeded mazes can be solved
+ * and on the length of their shortest paths. The solver runs on a pool of several workers, and the
+ * larger levels are split into several chunks, so cells are claimed by threads racing each other.
+ *
+ * @author Mickie Newman
+ */
+class ParallelBfsSolverTest {
+
+	// The pool the levels are expanded on, with several workers whatever machine the tests run on
+	private static ForkJoinPool pool;
+
+	@BeforeAll
+	static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterAll
+	static void stopPool() {
+		pool.shutdown();
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3 })
+	void randomMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 2000, 2000, seed);
+		TestMazes.assertMatchesQueueSolver(new ParallelBfsSolver(maze, pool));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2, 3 })
+	void walledOffGoalHasNoSolution(long seed) {
+		Maze maze = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 2000, 2000, seed));
+		assertEquals(MazeSolver.Status.NO_SOLUTION, TestMazes.assertMatchesQueueSolver(new ParallelBfsSolver(maze, pool)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 1, 2 })
+	void carvedMazesMatchQueueSolver(long seed) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.DEPTH_FIRST, 1001, 1001, seed);
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(new ParallelBfsSolver(maze, pool)));
+	}
+
+	@Test
+	void openRoomMatchesQueueSolver() {
+		// Levels in an open room grow into diamonds of thousands of cells, most of which can be reached
+		// from two cells of the level before, so threads expanding neighboring chunks race to claim them
+		ParallelBfsSolver solver = new ParallelBfsSolver(openRoom(3001, 3001), pool);
+		assertEquals(MazeSolver.Status.SOLVED, TestMazes.assertMatchesQueueSolver(solver));
+		assertTrue(solver.getPeakFrontierSize() > 2 * ParallelBfsSolver.CHUNK_SIZE, "levels were too small to split");
+	}
+
+	/**
+	 * Utility method to make a maze that is a single open room, with the start in the middle and the
+	 * goal in a corner
+	 *
+	 * @param rows The number of rows (including the walls around the room)
+	 * @param columns The number of columns (including the walls around the room)
+	 * @return The maze
+	 */
+	private static Maze openRoom(int rows, int columns) {
+		StringBuilder text = new StringBuilder(rows * (columns + 1) + 16);
+		text.append(columns).append(' ').append(rows).append('\n');
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				boolean wall = row == 0 || row == rows - 1 || column == 0 || column == columns - 1;
+				if (row == rows / 2 && column == columns / 2) text.append('S');
+				else if (row == rows - 2 && column == columns - 2) text.append('G');
+				else text.append(wall ? '#' : '.');
+			}
+			text.append('\n');
+		}
+		return TestMazes.fromText(text.toString());
+	}
+}
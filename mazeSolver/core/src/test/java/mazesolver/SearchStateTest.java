@@ -0,0 +1,162 @@
+/* *****************************************************************************
+ * Title:            SearchStateTest
+ * Files:            SearchStateTest.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Checks resetting search states, including when the epoch stamps run out
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks that resetting a search state forgets everything about the previous search, both when a
+ * reset just moves on to the next epoch and when the stamps are about to overflow and really have to
+ * be swept, so that every solver solves a maze the same way however many times it has been reset.
+ * Also checks that the order cells are visited in is recorded while the search is tracked.
+ *
+ * @author Mickie Newman
+ */
+class SearchStateTest {
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void resolvingAcrossTheSweepGivesTheSameResults(MazeSolver.Type type) {
+		Maze solvable = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 4);
+		Maze unsolvable = TestMazes.wallOffGoal(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 4));
+
+		for (Maze maze : new Maze[] { solvable, unsolvable }) {
+			MazeSolver reference = MazeSolver.create(type, maze);
+			reference.solveFast();
+
+			// The solver's constructor resets the state once, so the sweep comes with the solver's third
+			// reset: the solves before it use the last two epochs (whose explored stamp is Integer.MAX_VALUE)
+			SearchState state = new SearchState(maze);
+			state.skipToSweep(3);
+			MazeSolver solver = MazeSolver.create(type, state);
+			for (int solve = 0; solve < 6; solve++) {
+				assertEquals(reference.getStatus(), solver.solveFast(), "status of solve " + solve);
+				assertEquals(reference.getCellsVisited(), solver.getCellsVisited(), "cells visited in solve " + solve);
+				assertEquals(reference.getSolutionLength(), solver.getSolutionLength(), "path length of solve " + solve);
+				if (solver.getStatus() == MazeSolver.Status.SOLVED) {
+					TestMazes.assertConnectedPath(maze, solver.getSolutionPath());
+				}
+
+				// (the solver's reset discovers the cells it starts from again, but explores nothing)
+				solver.reset();
+				assertNothingExplored(state, false);
+			}
+		}
+	}
+
+	@Test
+	void resetForgetsEveryCell() {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 8);
+		SearchState state = new SearchState(maze);
+		for (int row = 0; row < maze.numRows(); row++) {
+			for (int column = 0; column < maze.numColumns(); column++) {
+				if (row % 2 == 0) state.setExplored(row * maze.numColumns() + column);
+				else state.setDiscovered(row * maze.numColumns() + column);
+			}
+		}
+
+		state.reset();
+		assertNothingExplored(state, true);
+
+		// The same again at the sweep, and just after it
+		state.skipToSweep(0);
+		state.setExplored(0);
+		state.reset();
+		assertNothingExplored(state, true);
+		state.setExplored(0);
+		state.reset();
+		assertNothingExplored(state, true);
+	}
+
+	@ParameterizedTest
+	@EnumSource(MazeSolver.Type.class)
+	void trackedSearchRecordsTheOrderCellsAreVisitedIn(MazeSolver.Type type) {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 12);
+		SearchState state = new SearchState(maze);
+		state.trackChanges(new DirtyCells(16));
+		MazeSolver solver = MazeSolver.create(type, state);
+		solver.solveFast();
+
+		// Each explored cell gets a different order, from 1 up to the number of cells visited (except with
+		// ParallelBfsSolver, which explores whole levels at once and so records no order)
+		boolean[] seen = new boolean[solver.getCellsVisited() + 1];
+		int recorded = 0;
+		for (int row = 0; row < maze.numRows(); row++) {
+			for (int column = 0; column < maze.numColumns(); column++) {
+				int order = state.getOrderVisited(row, column);
+				if (order == 0) continue;
+				assertEquals(Cell.Status.EXPLORED, state.getStatus(row, column), "unexplored cell has an order");
+				assertFalse(seen[order], "order " + order + " was recorded twice");
+				seen[order] = true;
+				recorded++;
+			}
+		}
+		assertEquals(type == MazeSolver.Type.PARALLEL_BFS ? 0 : solver.getCellsVisited(), recorded);
+
+		// A reset forgets the order along with everything else
+		solver.reset();
+		assertNoOrderRecorded(state);
+	}
+
+	@Test
+	void untrackedSearchRecordsNoOrder() {
+		Maze maze = MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 64, 96, 12);
+		SearchState state = new SearchState(maze);
+		new QueueSolver(state).solveFast();
+		assertNoOrderRecorded(state);
+	}
+
+	@Test
+	void skippingBackIsRejected() {
+		SearchState state = new SearchState(MazeGenerator.generate(MazeGenerator.Algorithm.RANDOM, 20, 20, 1));
+		state.skipToSweep(10);
+		assertThrows(IllegalArgumentException.class, () -> state.skipToSweep(11));
+		assertThrows(IllegalArgumentException.class, () -> state.skipToSweep(-1));
+	}
+
+	/**
+	 * Utility method to check that no cell of a search state's maze has a visit order recorded
+	 *
+	 * @param state The search state
+	 */
+	private static void assertNoOrderRecorded(SearchState state) {
+		Maze maze = state.getMaze();
+		for (int row = 0; row < maze.numRows(); row++) {
+			for (int column = 0; column < maze.numColumns(); column++) {
+				assertEquals(0, state.getOrderVisited(row, column), "order of " + row + ", " + column);
+			}
+		}
+	}
+
+	/**
+	 * Utility method to check that no cell of a search state's maze is explored (or discovered)
+	 *
+	 * @param state The search state
+	 * @param checkDiscovered Whether to check that no cell is discovered either
+	 */
+	private static void assertNothingExplored(SearchState state, boolean checkDiscovered) {
+		Maze maze = state.getMaze();
+		for (int row = 0; row < maze.numRows(); row++) {
+			for (int column = 0; column < maze.numColumns(); column++) {
+				assertEquals(Cell.Status.UNEXPLORED, state.getStatus(row, column), "status of " + row + ", " + column);
+				if (checkDiscovered) assertFalse(state.isDiscovered(row * maze.numColumns() + column), row + ", " + column + " is discovered");
+			}
+		}
+	}
+}
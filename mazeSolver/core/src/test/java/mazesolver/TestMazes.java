@@ -0,0 +1,132 @@
+/* *****************************************************************************
+ * Title:            TestMazes
+ * Files:            TestMazes.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 Mazes and checks shared by the core tests
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Mazes and checks shared by the core tests. Solvers are checked against QueueSolver, whose plain
+ * BFS always finds a shortest path (or finds there is none).
+ *
+ * @author Mickie Newman
+ */
+final class TestMazes {
+
+	// This class only has static methods
+	private TestMazes() {
+	}
+
+	/**
+	 * Load a maze from text in the format Maze.save writes
+	 *
+	 * @param text The maze's header line and rows
+	 * @return The maze
+	 */
+	static Maze fromText(String text) {
+		try {
+			return MazeTextReader.read(Channels.newChannel(new ByteArrayInputStream(
+					text.getBytes(StandardCharsets.US_ASCII))), "test");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Check that two mazes have the same size, cells, start and goal
+	 *
+	 * @param expected The maze that was expected
+	 * @param actual The maze to check
+	 */
+	static void assertSameMaze(Maze expected, Maze actual) {
+		assertEquals(expected.numRows(), actual.numRows(), "rows");
+		assertEquals(expected.numColumns(), actual.numColumns(), "columns");
+		assertEquals(expected.toString(), actual.toString(), "cells");
+		assertEquals(expected.getStartCell().getRow(), actual.getStartCell().getRow(), "start row");
+		assertEquals(expected.getStartCell().getColumn(), actual.getStartCell().getColumn(), "start column");
+		assertEquals(expected.getGoalCell().getRow(), actual.getGoalCell().getRow(), "goal row");
+		assertEquals(expected.getGoalCell().getColumn(), actual.getGoalCell().getColumn(), "goal column");
+	}
+
+	/**
+	 * Wall in a maze's goal, so the maze has no solution however the rest of it was generated
+	 *
+	 * @param maze The maze (whose start must not be next to its goal)
+	 * @return The maze
+	 */
+	static Maze wallOffGoal(Maze maze) {
+		Cell goal = maze.getGoalCell();
+		int[][] neighbors = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
+		for (int[] offset : neighbors) {
+			int row = goal.getRow() + offset[0], column = goal.getColumn() + offset[1];
+			if (row < 0 || row >= maze.numRows() || column < 0 || column >= maze.numColumns()) continue;
+			assertNotEquals(Cell.Type.START, maze.getType(row, column), "start is next to the goal");
+			maze.setType(row, column, Cell.Type.WALL);
+		}
+		return maze;
+	}
+
+	/**
+	 * Solve a maze with a solver and with QueueSolver, and check that they agree on whether it can be
+	 * solved and on the length of the shortest path, and that the solver's path is a real path
+	 *
+	 * @param solver The solver (which hasn't taken any steps yet)
+	 * @return The solver's final status
+	 */
+	static MazeSolver.Status assertMatchesQueueSolver(MazeSolver solver) {
+		Maze maze = solver.getSearchState().getMaze();
+		MazeSolver reference = new QueueSolver(maze);
+		reference.solveFast();
+
+		assertEquals(reference.getStatus(), solver.solveFast(), "status");
+		assertEquals(reference.getSolutionLength(), solver.getSolutionLength(), "solution length");
+		if (solver.getStatus() == MazeSolver.Status.SOLVED) assertConnectedPath(maze, solver.getSolutionPath());
+		return solver.getStatus();
+	}
+
+	/**
+	 * Check that a path leads from a maze's start to its goal one open neighbor at a time, never going
+	 * through the same cell twice
+	 *
+	 * @param maze The maze
+	 * @param path The cells on the path (as returned by MazeSolver.getSolutionPath)
+	 */
+	static void assertConnectedPath(Maze maze, int[] path) {
+		int columns = maze.numColumns();
+		Cell start = maze.getStartCell(), goal = maze.getGoalCell();
+		assertTrue(path.length >= 2, "path is too short to join the start and goal");
+		assertEquals(start.getRow() * columns + start.getColumn(), path[0], "path doesn't begin at the start");
+		assertEquals(goal.getRow() * columns + goal.getColumn(), path[path.length - 1], "path doesn't end at the goal");
+
+		BitSet seen = new BitSet();
+		for (int i = 0; i < path.length; i++) {
+			int row = path[i] / columns, column = path[i] % columns;
+			assertNotEquals(Cell.Type.WALL, maze.getType(row, column), "path goes through a wall at " + i);
+			assertFalse(seen.get(path[i]), "path visits cell " + path[i] + " twice");
+			seen.set(path[i]);
+			if (i > 0) {
+				int distance = Math.abs(row - path[i - 1] / columns) + Math.abs(column - path[i - 1] % columns);
+				assertEquals(1, distance, "path jumps between cells " + path[i - 1] + " and " + path[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/* *****************************************************************************
+ * Title:            ExploredBlocks
+ * Files:            ExploredBlocks.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A record of which blocks of a maze hold an explored cell, at every level
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.gui;
+
+import java.util.Arrays;
+
+import mazesolver.Cell;
+import mazesolver.Maze;
+import mazesolver.SearchState;
+
+/**
+ * A record of which blocks of a maze hold at least one explored cell, for every level from 1 up to the
+ * level where a single block covers the whole maze (the same blocks as MazeTiles: at level L a block is
+ * 2^L by 2^L cells). The search overlay uses it to color a zoomed out pixel if any cell in its block
+ * was explored, without looking at every cell in the block each time the view moves.
+ *
+ * Cells are only ever added (a search never unexplores a cell short of being reset), and adding a cell
+ * stops at the first level whose block was already marked, so keeping the record up to date costs
+ * little more than a bit per explored cell. The record takes about a third of a bit per cell.
+ *
+ * @author Mickie Newman
+ */
+final class ExploredBlocks {
+
+	// The maze's dimensions
+	private final int rows, columns;
+
+	// For each level from 1 up, a bit per block (by blockRow * blocks across + blockColumn) that is set
+	// if the block holds an explored cell; levels[0] is unused, since the search state itself says which
+	// cells were explored
+	private final long[][] levels;
+
+	/**
+	 * Create an empty record for a maze
+	 *
+	 * @param maze The maze
+	 */
+	ExploredBlocks(Maze maze) {
+		this.rows = maze.numRows();
+		this.columns = maze.numColumns();
+
+		int top = 1;
+		while (top < MazeTiles.MAX_LEVEL && (blocks(rows, top) > 1 || blocks(columns, top) > 1)) top++;
+		levels = new long[top + 1][];
+		for (int level = 1; level <= top; level++) {
+			levels[level] = new long[(int) (((long) blocks(rows, level) * blocks(columns, level) + 63) >> 6)];
+		}
+	}
+
+	/**
+	 * Record that a cell was explored
+	 *
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 */
+	void add(int row, int column) {
+		for (int level = 1; level < levels.length; level++) {
+			int index = (row >> level) * blocks(columns, level) + (column >> level);
+			long bit = 1L << index;
+			if ((levels[level][index >>> 6] & bit) != 0) return;
+			levels[level][index >>> 6] |= bit;
+		}
+	}
+
+	/**
+	 * Record every explored cell of a search, forgetting any cells recorded before
+	 *
+	 * @param search The search, or null to forget every cell
+	 */
+	void rebuild(SearchState search) {
+		for (int level = 1; level < levels.length; level++) {
+			Arrays.fill(levels[level], 0);
+		}
+		if (search == null) return;
+
+		// Mark the level 1 blocks from the cells, then each level's blocks from the level below's
+		long[] first = levels[1];
+		int firstColumns = blocks(columns, 1);
+		for (int row = 0; row < rows; row++) {
+			int rowBlocks = (row >> 1) * firstColumns;
+			for (int column = 0; column < columns; column++) {
+				// Explored and unexplored cells are mixed more or less at random, so rather than branching on
+				// which each cell is, its bit is always ORed in
+				long explored = search.getStatus(row, column) == Cell.Status.EXPLORED ? 1 : 0;
+				int index = rowBlocks + (column >> 1);
+				first[index >>> 6] |= explored << index;
+			}
+		}
+		for (int level = 2; level < levels.length; level++) {
+			long[] below = levels[level - 1], bits = levels[level];
+			int belowColumns = blocks(columns, level - 1), across = blocks(columns, level);
+			for (int word = 0; word < below.length; word++) {
+				for (long set = below[word]; set != 0; set &= set - 1) {
+					int i = word << 6 | Long.numberOfTrailingZeros(set);
+					int index = (i / belowColumns >> 1) * across + (i % belowColumns >> 1);
+					bits[index >>> 6] |= 1L << index;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check whether a block holds an explored cell
+	 *
+	 * @param level The block's level (at least 1)
+	 * @param blockRow The row of the block (in blocks)
+	 * @param blockColumn The column of the block (in blocks)
+	 * @return True if any cell in the block has been recorded as explored, false otherwise
+	 */
+	boolean isExplored(int level, int blockRow, int blockColumn) {
+		// Past the top level the maze fits in a single block
+		if (level >= levels.length) return blockRow == 0 && blockColumn == 0 && (levels[levels.length - 1][0] & 1) != 0;
+		int index = blockRow * blocks(columns, level) + blockColumn;
+		return (levels[level][index >>> 6] & 1L << index) != 0;
+	}
+
+	/**
+	 * Utility method to get how many blocks a run of cells is split into at a level
+	 *
+	 * @param cells The number of cells
+	 * @param level The level
+	 * @return The number of blocks
+	 */
+	private static int blocks(int cells, int level) {
+		return (int) (((long) cells + (1L << level) - 1) >> level);
+	}
+}
@@ -0,0 +1,516 @@
+/* *****************************************************************************
+ * Title:            MazeRenderer
+ * Files:            MazeRenderer.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Daniel Szafir, daniel.szafir@colorado.edu
+ *
+ * Description:		 Draws a Maze on a JavaFX canvas
+ *
+ * Written:       	 3/21/2020
+ **************************************************************************** */
+
+package mazesolver.gui;
+
+import java.util.BitSet;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import mazesolver.Cell;
+import mazesolver.DirtyCells;
+import mazesolver.Maze;
+import mazesolver.SearchState;
+
+/**
+ * Draws a Maze onto a JavaFX canvas. This is kept separate from the Maze itself so that the maze
+ * and its solvers can be used without loading JavaFX.
+ *
+ * The canvas is a viewport onto the maze that can be zoomed (from showing the whole maze up to cells
+ * MAX_CELL_SIZE pixels across) and panned, and only the cells inside it are drawn, so the cost of a
+ * frame doesn't depend on the size of the maze. Each frame is drawn in layers:
+ *  - the layout (walls, open cells, start and goal), from cached tiles (see MazeTiles) at the level of
+ *    detail that matches the zoom;
+ *  - the search, from an overlay with a pixel per block of cells (the same blocks as the tiles), which
+ *    is transparent except where a block holds an explored cell (kept track of for every level by
+ *    ExploredBlocks) or a cell on the path;
+ *  - the order in which cells were visited, only when cells are big enough to read it.
+ * Both the tiles and the overlay are ARGB pixel buffers copied into images, so a frame is a handful of
+ * image draws rather than a couple of drawing commands per cell.
+ *
+ * Drawing is incremental: the renderer remembers what it last drew and, on each frame, only updates
+ * what changed since then, as recorded by the maze while it is generated (Maze.getChanges(), whose
+ * cells' tiles are rebuilt) and by the search while it is solved (the renderer asks the search state to
+ * track its changes, adds those cells to ExploredBlocks and recolors their overlay pixels). The overlay
+ * is only rebuilt when the view, maze, search or canvas size changes, when a solution path is cleared,
+ * when too many cells changed at once to be worth drawing one by one, or after invalidate(); rebuilding
+ * it reads ExploredBlocks, so it shows exactly what drawing the changes one by one would have. Only a
+ * new search, or too many changes to list, makes ExploredBlocks look at every cell again. Nothing is
+ * drawn at all in frames where nothing changed.
+ *
+ * @author Daniel Szafir
+ */
+public class MazeRenderer {
+
+	// The colors of the search overlay, as ARGB pixels (0 lets the layout show through)
+	private static final int EXPLORED = MazeTiles.argb(Color.GRAY);
+	private static final int PATH = MazeTiles.argb(Color.ORANGE);
+
+	/** The largest size (in pixels) cells can be zoomed to */
+	public static final double MAX_CELL_SIZE = 64;
+
+	// The smallest cell height (in pixels) the order cells were visited in is written at
+	private static final double MIN_TEXT_CELL_SIZE = 12;
+
+	// The most changed cells drawn one by one in a frame before the whole maze is redrawn instead
+	private static final int MAX_CHANGES = 1 << 16;
+
+	// The most tiles kept at once (enough for a few screens' worth at any zoom), and the most built
+	// in a single frame (any others are built over the next frames, so zooming never stalls)
+	private static final int TILE_CACHE_SIZE = 256;
+	private static final int MAX_TILES_BUILT_PER_FRAME = 4;
+
+	// The graphics context linked to the canvas the maze is drawn on
+	private final GraphicsContext gc;
+
+	// Where the search being drawn records the cells it changes
+	private final DirtyCells searchChanges = new DirtyCells(MAX_CHANGES);
+
+	// What was drawn last time, so the next draw can tell what changed
+	private Maze lastMaze;
+	private SearchState lastSearch;
+	private int[] lastPath = new int[0];
+	private double lastWidth, lastHeight;
+
+	// The indices of the cells on the last path drawn, so redrawn cells stay highlighted
+	private final BitSet onPath = new BitSet();
+
+	// Whether everything needs redrawing next time regardless of what changed
+	private boolean invalid = true;
+
+	// The tiles of the maze's layout, and whether some visible ones still need building
+	private MazeTiles tiles;
+	private boolean missingTiles;
+
+	// Which blocks of the maze hold a cell explored by the search being drawn
+	private ExploredBlocks exploredBlocks;
+
+	// The view: how far it is zoomed in (1 shows the whole maze), the cell (possibly fractional) at the
+	// top left of the canvas, and whether any of that changed since the last draw
+	private double zoom = 1;
+	private double viewRow, viewColumn;
+	private boolean viewChanged;
+
+	// How the view was last drawn: the size of a cell in pixels, and the level of detail (each tile or
+	// overlay pixel shows a 2^level by 2^level block of cells)
+	private double scaleX = 1, scaleY = 1;
+	private int level;
+
+	// The search overlay: a pixel per block of cells for the visible blocks, row by row, starting with
+	// the block at (firstBlockRow, firstBlockColumn), and the image it is copied into for drawing
+	private int[] overlay = new int[0];
+	private WritableImage overlayImage;
+	private int firstBlockRow, firstBlockColumn, blockRows, blockColumns;
+
+	// Where the start and goal were when the overlay was last rebuilt (the overlay leaves their blocks
+	// transparent so they stay visible)
+	private int startRow, startColumn, goalRow, goalColumn;
+
+	/**
+	 * Create a renderer that draws onto a given canvas
+	 *
+	 * @param gc The graphics context linked to the canvas mazes should be drawn on
+	 */
+	public MazeRenderer(GraphicsContext gc) {
+		this.gc = gc;
+
+		// Tiles and the overlay are scaled up when zoomed in, and should stay sharp
+		gc.setImageSmoothing(false);
+	}
+
+	/**
+	 * Make the next draw redraw everything, e.g., because something else has drawn on the canvas
+	 */
+	public void invalidate() {
+		invalid = true;
+	}
+
+	/**
+	 * Zoom the view in or out, keeping the cell under a given point of the canvas in place
+	 *
+	 * @param factor How much to zoom in by (e.g., 2 doubles the size of cells, 0.5 halves it)
+	 * @param x The x coordinate of the point on the canvas
+	 * @param y The y coordinate of the point on the canvas
+	 */
+	public void zoom(double factor, double x, double y) {
+		if (lastMaze == null || lastMaze.numCells() == 0 || !(factor > 0)) return;
+		double row = viewRow + y / scaleY, column = viewColumn + x / scaleX;
+		zoom = clampZoom(zoom * factor, lastMaze, lastWidth, lastHeight);
+		viewRow = row - y / (zoom * lastHeight / lastMaze.numRows());
+		viewColumn = column - x / (zoom * lastWidth / lastMaze.numColumns());
+		viewChanged = true;
+	}
+
+	/**
+	 * Move the view, as if dragging the maze across the canvas
+	 *
+	 * @param dx How far to move the maze to the right, in pixels
+	 * @param dy How far to move the maze down, in pixels
+	 */
+	public void pan(double dx, double dy) {
+		viewRow -= dy / scaleY;
+		viewColumn -= dx / scaleX;
+		viewChanged = true;
+	}
+
+	/**
+	 * Zoom the view back out to show the whole maze
+	 */
+	public void resetView() {
+		zoom = 1;
+		viewRow = 0;
+		viewColumn = 0;
+		viewChanged = true;
+	}
+
+	/**
+	 * Draw a maze on the canvas
+	 *
+	 * @param maze The maze to draw
+	 */
+	public void draw(Maze maze) {
+		draw(maze, null, new int[0]);
+	}
+
+	/**
+	 * Draw a maze on the canvas showing how far a search has got, with a solution path highlighted
+	 *
+	 * @param maze The maze to draw
+	 * @param search What a solver has explored of the maze (e.g., from MazeSolver.getSearchState()),
+	 * 				 or null to draw every cell as unexplored
+	 * @param path The cells on the path, each encoded as row * maze.numColumns() + column (e.g., from
+	 * 			   MazeSolver.getSolutionPath())
+	 */
+	public void draw(Maze maze, SearchState search, int[] path) {
+
+		// How much area on the canvas do we have to draw with
+		double width = gc.getCanvas().getWidth();
+		double height = gc.getCanvas().getHeight();
+
+		// A new maze gets its own tiles, and starts out showing all of it
+		if (maze != lastMaze) {
+			tiles = new MazeTiles(maze, TILE_CACHE_SIZE);
+			exploredBlocks = new ExploredBlocks(maze);
+			resetView();
+		}
+
+		// Start watching the new search (which marks all of its cells as changed)
+		if (search != lastSearch) {
+			if (lastSearch != null && lastSearch.getChanges() == searchChanges) lastSearch.trackChanges(null);
+			if (search != null) search.trackChanges(searchChanges);
+		}
+
+		boolean view = viewChanged || width != lastWidth || height != lastHeight;
+		boolean everything = invalid || view || search != lastSearch
+				|| (path != lastPath && lastPath.length > 0);
+		boolean changed = everything || missingTiles;
+		if (view) setView(maze, width, height);
+
+		// Forget the tiles showing cells that changed in the maze
+		DirtyCells mazeChanges = maze.getChanges();
+		int[] numChanged = new int[1];
+		if (mazeChanges != null) {
+			if (mazeChanges.drain(cell -> {
+				tiles.invalidate(cell / maze.numColumns(), cell % maze.numColumns());
+				numChanged[0]++;
+			})) {
+				tiles.clear();
+				numChanged[0]++;
+			}
+		}
+
+		// Record the changed cells in the explored blocks, and recolor just those cells in the overlay
+		// unless it has to be rebuilt anyway. If too many cells changed to list them (or the search is
+		// new), the explored blocks are rebuilt from every cell instead.
+		boolean rebuildOverlay = everything;
+		boolean rebuildBlocks = maze != lastMaze || search != lastSearch;
+		if (search != null) {
+			rebuildBlocks |= searchChanges.drain(cell -> {
+				int row = cell / maze.numColumns(), column = cell % maze.numColumns();
+				if (search.getStatus(row, column) == Cell.Status.EXPLORED) exploredBlocks.add(row, column);
+				if (!rebuildOverlay) {
+					drawOverlayCell(maze, search, cell);
+					numChanged[0]++;
+				}
+			});
+		}
+		if (rebuildBlocks) {
+			exploredBlocks.rebuild(search);
+			everything = true;
+		}
+
+		if (everything) {
+			onPath.clear();
+			for (int index : path) {
+				onPath.set(index);
+			}
+			drawOverlay(maze, search);
+		}
+		else if (path != lastPath && path.length > 0) {
+			// A new path was found (an old one being cleared means everything is redrawn)
+			for (int index : path) {
+				onPath.set(index);
+				drawOverlayCell(maze, search, index);
+			}
+			changed = true;
+		}
+
+		if (changed || everything || numChanged[0] > 0) drawLayers(maze, search, width, height);
+
+		lastMaze = maze;
+		lastSearch = search;
+		lastPath = path;
+		lastWidth = width;
+		lastHeight = height;
+		invalid = false;
+		viewChanged = false;
+	}
+
+	/**
+	 * Fit the view to the maze and canvas: keep the zoom within its limits and the view inside the maze,
+	 * and work out the size of cells and the level of detail to draw them at
+	 *
+	 * @param maze The maze being drawn
+	 * @param width The width of the canvas
+	 * @param height The height of the canvas
+	 */
+	private void setView(Maze maze, double width, double height) {
+		if (maze.numRows() == 0 || maze.numColumns() == 0) {
+			blockRows = 0;
+			blockColumns = 0;
+			return;
+		}
+
+		zoom = clampZoom(zoom, maze, width, height);
+		scaleX = zoom * width / maze.numColumns();
+		scaleY = zoom * height / maze.numRows();
+		viewRow = Math.max(0, Math.min(viewRow, maze.numRows() - height / scaleY));
+		viewColumn = Math.max(0, Math.min(viewColumn, maze.numColumns() - width / scaleX));
+
+		// Use the finest level whose blocks are still no bigger than a pixel
+		double cellsPerPixel = Math.max(1 / scaleX, 1 / scaleY);
+		level = cellsPerPixel < 2 ? 0 : Math.min(MazeTiles.MAX_LEVEL, 63 - Long.numberOfLeadingZeros((long) cellsPerPixel));
+
+		// Find the visible blocks
+		firstBlockRow = (int) viewRow >> level;
+		firstBlockColumn = (int) viewColumn >> level;
+		blockRows = (lastVisible(viewRow, height / scaleY, maze.numRows()) >> level) - firstBlockRow + 1;
+		blockColumns = (lastVisible(viewColumn, width / scaleX, maze.numColumns()) >> level) - firstBlockColumn + 1;
+		if (overlay.length < blockRows * blockColumns) overlay = new int[blockRows * blockColumns];
+		if (overlayImage == null || overlayImage.getWidth() < blockColumns || overlayImage.getHeight() < blockRows) {
+			overlayImage = new WritableImage(blockColumns, blockRows);
+		}
+	}
+
+	/**
+	 * Rebuild the whole search overlay
+	 *
+	 * @param maze The maze being drawn
+	 * @param search What a solver has explored of the maze, or null if nothing has been
+	 */
+	private void drawOverlay(Maze maze, SearchState search) {
+		Cell start = maze.getStartCell(), goal = maze.getGoalCell();
+		startRow = start.getRow();
+		startColumn = start.getColumn();
+		goalRow = goal.getRow();
+		goalColumn = goal.getColumn();
+
+		for (int blockRow = 0; blockRow < blockRows; blockRow++) {
+			for (int blockColumn = 0; blockColumn < blockColumns; blockColumn++) {
+				overlay[blockRow * blockColumns + blockColumn] = search != null
+						? blockColor(search, firstBlockRow + blockRow, firstBlockColumn + blockColumn) : 0;
+			}
+		}
+
+		// Path cells aren't kept track of by block, so they are drawn one by one
+		for (int i = onPath.nextSetBit(0); i >= 0; i = onPath.nextSetBit(i + 1)) {
+			drawOverlayCell(maze, search, i);
+		}
+	}
+
+	/**
+	 * Work out whether a block of cells shows up as explored in the overlay, which it does if any of
+	 * its cells was explored
+	 *
+	 * @param search What a solver has explored of the maze
+	 * @param blockRow The row of the block (in blocks)
+	 * @param blockColumn The column of the block (in blocks)
+	 * @return The color of the block's overlay pixel
+	 */
+	private int blockColor(SearchState search, int blockRow, int blockColumn) {
+		if (holdsStartOrGoal(blockRow, blockColumn)) return 0;
+
+		boolean explored = level == 0 ? search.getStatus(blockRow, blockColumn) == Cell.Status.EXPLORED
+				: exploredBlocks.isExplored(level, blockRow, blockColumn);
+		return explored ? EXPLORED : 0;
+	}
+
+	/**
+	 * Update the overlay pixel showing the cell at a specified index, if it is visible
+	 *
+	 * @param maze The maze being drawn
+	 * @param search What a solver has explored of the maze, or null if nothing has been
+	 * @param index The index of the cell (row * maze.numColumns() + column)
+	 */
+	private void drawOverlayCell(Maze maze, SearchState search, int index) {
+		int row = index / maze.numColumns(), column = index % maze.numColumns();
+		int blockRow = row >> level, blockColumn = column >> level;
+		if (blockRow < firstBlockRow || blockRow >= firstBlockRow + blockRows
+				|| blockColumn < firstBlockColumn || blockColumn >= firstBlockColumn + blockColumns
+				|| holdsStartOrGoal(blockRow, blockColumn)) {
+			return;
+		}
+
+		int pixel = (blockRow - firstBlockRow) * blockColumns + blockColumn - firstBlockColumn;
+		if (onPath.get(index)) overlay[pixel] = PATH;
+		else if (overlay[pixel] == 0 && search != null && search.getStatus(row, column) == Cell.Status.EXPLORED) {
+			overlay[pixel] = EXPLORED;
+		}
+	}
+
+	/**
+	 * Draw the layers of the visible part of the maze onto the canvas
+	 *
+	 * @param maze The maze being drawn
+	 * @param search What a solver has explored of the maze, or null if nothing has been
+	 * @param width The width of the canvas
+	 * @param height The height of the canvas
+	 */
+	private void drawLayers(Maze maze, SearchState search, double width, double height) {
+		gc.setFill(Color.WHITE);
+		gc.fillRect(0, 0, width, height);
+
+		if (maze.numRows() > 0 && maze.numColumns() > 0) {
+			// The layout, from tiles (building no more than a few of them per frame)
+			long span = (long) MazeTiles.TILE_SIZE << level;
+			int lastTileRow = (int) (lastVisible(viewRow, height / scaleY, maze.numRows()) / span);
+			int lastTileColumn = (int) (lastVisible(viewColumn, width / scaleX, maze.numColumns()) / span);
+			int built = 0;
+			missingTiles = false;
+			for (int tileRow = (int) (viewRow / span); tileRow <= lastTileRow; tileRow++) {
+				for (int tileColumn = (int) (viewColumn / span); tileColumn <= lastTileColumn; tileColumn++) {
+					WritableImage tile = tiles.get(level, tileRow, tileColumn, false);
+					if (tile == null && built < MAX_TILES_BUILT_PER_FRAME) {
+						tile = tiles.get(level, tileRow, tileColumn, true);
+						built++;
+					}
+					if (tile == null) {
+						missingTiles = true;
+						continue;
+					}
+					double x = screenX(tileColumn * span), y = screenY(tileRow * span);
+					gc.drawImage(tile, x, y, screenX((tileColumn + 1) * span) - x, screenY((tileRow + 1) * span) - y);
+				}
+			}
+
+			// The search, from the overlay
+			overlayImage.getPixelWriter().setPixels(0, 0, blockColumns, blockRows, PixelFormat.getIntArgbInstance(),
+					overlay, 0, blockColumns);
+			double x = screenX((long) firstBlockColumn << level), y = screenY((long) firstBlockRow << level);
+			gc.drawImage(overlayImage, 0, 0, blockColumns, blockRows, x, y,
+					screenX((long) (firstBlockColumn + blockColumns) << level) - x,
+					screenY((long) (firstBlockRow + blockRows) << level) - y);
+
+			if (search != null && scaleY >= MIN_TEXT_CELL_SIZE) drawOrderVisited(maze, search, width, height);
+		}
+
+		// Draw a 1 pixel black border around the whole canvas
+		gc.setStroke(Color.BLACK);
+		gc.strokeRect(0, 0, width, height);
+	}
+
+	/**
+	 * Write the order in which each visible cell was visited on top of it
+	 *
+	 * @param maze The maze being drawn
+	 * @param search What a solver has explored of the maze
+	 * @param width The width of the canvas
+	 * @param height The height of the canvas
+	 */
+	private void drawOrderVisited(Maze maze, SearchState search, double width, double height) {
+		int lastRow = lastVisible(viewRow, height / scaleY, maze.numRows());
+		int lastColumn = lastVisible(viewColumn, width / scaleX, maze.numColumns());
+
+		gc.setFill(Color.BLACK);
+		for (int row = (int) viewRow; row <= lastRow; row++) {
+			for (int col = (int) viewColumn; col <= lastColumn; col++) {
+				int orderVisited = search.getOrderVisited(row, col);
+				if (orderVisited > 0) {
+					gc.fillText(String.valueOf(orderVisited), (col - viewColumn + 0.5) * scaleX, (row - viewRow + 0.75) * scaleY);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Utility method to check whether the block of cells at a specified position holds the start or goal
+	 *
+	 * @param blockRow The row of the block (in blocks)
+	 * @param blockColumn The column of the block (in blocks)
+	 * @return True if the block holds the start or goal, false otherwise
+	 */
+	private boolean holdsStartOrGoal(int blockRow, int blockColumn) {
+		return (startRow >> level == blockRow && startColumn >> level == blockColumn)
+				|| (goalRow >> level == blockRow && goalColumn >> level == blockColumn);
+	}
+
+	/**
+	 * Utility method to get the x coordinate on the canvas of the left edge of a column of cells,
+	 * rounded down so that neighboring images meet without gaps
+	 *
+	 * @param column The column
+	 * @return The x coordinate
+	 */
+	private double screenX(long column) {
+		return Math.floor((column - viewColumn) * scaleX);
+	}
+
+	/**
+	 * Utility method to get the y coordinate on the canvas of the top edge of a row of cells, rounded
+	 * down so that neighboring images meet without gaps
+	 *
+	 * @param row The row
+	 * @return The y coordinate
+	 */
+	private double screenY(long row) {
+		return Math.floor((row - viewRow) * scaleY);
+	}
+
+	/**
+	 * Utility method to get the last cell (along one axis) that is at least partly visible
+	 *
+	 * @param first Where the view starts (in cells)
+	 * @param visible How many cells the view is across
+	 * @param cells The number of cells along the axis
+	 * @return The position of the last visible cell
+	 */
+	private static int lastVisible(double first, double visible, int cells) {
+		return (int) Math.min(cells - 1, Math.ceil(first + visible) - 1);
+	}
+
+	/**
+	 * Utility method to keep a zoom between showing the whole maze and showing cells MAX_CELL_SIZE
+	 * pixels across
+	 *
+	 * @param zoom The zoom
+	 * @param maze The maze being drawn
+	 * @param width The width of the canvas
+	 * @param height The height of the canvas
+	 * @return The zoom, within its limits
+	 */
+	private static double clampZoom(double zoom, Maze maze, double width, double height) {
+		double fit = Math.max(width / Math.max(1, maze.numColumns()), height / Math.max(1, maze.numRows()));
+		return Math.max(1, Math.min(zoom, MAX_CELL_SIZE / fit));
+	}
+}
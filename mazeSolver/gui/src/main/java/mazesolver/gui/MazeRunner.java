@@ -10,10 +10,13 @@
  * Written:       	 3/21/2021
  **************************************************************************** */
 
+package mazesolver.gui;
+
 import java.io.File;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 import java.util.function.UnaryOperator;
 
 import javafx.animation.AnimationTimer;
@@ -42,6 +45,11 @@ import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.util.converter.IntegerStringConverter;
 import javafx.scene.control.Separator;
+import mazesolver.DirtyCells;
+import mazesolver.Maze;
+import mazesolver.MazeGenerator;
+import mazesolver.MazeSolver;
+import mazesolver.SearchState;
 
 /**
  * This is the main maze application. It creates a JavaFX GUI that enables users to 
@@ -54,13 +62,16 @@ public class MazeRunner extends Application {
 	
 	// How fast/slow the various maze generation and solving animations
 	// play. Lower values will result in faster drawing speeds.
-	public static final int DRAWING_SPEED = 5;
+	public static final int DRAWING_SPEED = Maze.DRAWING_SPEED;
 
 	// Application width and height
 	public static final int WIDTH = 800;
 	public static final int HEIGHT = 600;
 	
-	// The maze object
+	// How much each step of the mouse wheel zooms the maze in or out by
+	private static final double ZOOM_STEP = 1.25;
+	
+	// The maze object (only changed on the JavaFX thread, like every other field the GUI shows)
 	private Maze maze;
 	
 	// The number of rows and columns for generating new mazes (users can edit these via the GUI)
@@ -76,8 +87,12 @@ public class MazeRunner extends Application {
 	// The MazeSolver object
 	private MazeSolver mazeSolver;
 	
+	// The search state solvers of the current maze record their progress in. It is handed from one
+	// solver to the next, since resetting it is constant time while allocating a new one isn't.
+	private SearchState searchState;
+	
 	// Some GUI elements
-	private Button stepButton, playButton, clearButton;
+	private Button stepButton, playButton, solveInstantlyButton, clearButton;
 	private ComboBox<MazeSolver.Type> solverComboBox;
 	
 	// A list of all GUI elements the user can interact with (used to temporarily disable/re-enable
@@ -89,11 +104,14 @@ public class MazeRunner extends Application {
 	
 	// Used for animating the maze
 	private AnimationTimer animator;
-	private Object mazeLock;
+	
+	// The most cells recorded as changed between frames while a maze is generated
+	private static final int MAX_GENERATION_CHANGES = 1 << 16;
 
-	// Threads used so that the application knows when the solver is running and/or finished
-	private Thread solveThread;
-	private Thread solveThreadFinished;
+	// Whether the solver is playing (i.e., being stepped by the animator each frame), and up to what
+	// time (from System.nanoTime) the steps it has taken account for
+	private boolean playing;
+	private long playedUntil;
 	
 	/**
 	 * Main entry point of the program. Simply launches the GUI
@@ -131,12 +149,40 @@ public class MazeRunner extends Application {
 		Canvas canvas = new Canvas(WIDTH-20, HEIGHT/2);
 		GraphicsContext gc = canvas.getGraphicsContext2D();
 		gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight()); // draw a 1px black border around the canvas 
+		MazeRenderer renderer = new MazeRenderer(gc);
+		
+		// Scroll to zoom in or out around the mouse, drag to pan, and double click to see the whole maze again
+		double[] dragStart = new double[2];
+		canvas.setOnScroll(scrollEvent -> {
+			if (scrollEvent.getDeltaY() != 0) renderer.zoom(scrollEvent.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP,
+					scrollEvent.getX(), scrollEvent.getY());
+		});
+		canvas.setOnMousePressed(mouseEvent -> {
+			dragStart[0] = mouseEvent.getX();
+			dragStart[1] = mouseEvent.getY();
+			if (mouseEvent.getClickCount() == 2) renderer.resetView();
+		});
+		canvas.setOnMouseDragged(mouseEvent -> {
+			renderer.pan(mouseEvent.getX() - dragStart[0], mouseEvent.getY() - dragStart[1]);
+			dragStart[0] = mouseEvent.getX();
+			dragStart[1] = mouseEvent.getY();
+		});
 		
 		// Start the animation timer for animating the maze
-		mazeLock = new Object();
 		animator = new AnimationTimer() {
 			@Override public void handle(long arg0) {
-				if (maze != null) maze.draw(gc);
+				if (playing) playFrame();
+				
+				// Highlight the solver's path once it has found one (the solver is for the previous maze while a
+				// new one is generated)
+				MazeSolver solver = mazeSolver;
+				Maze shown = maze;
+				if (shown != null) {
+					if (solver != null && solver.getSearchState().getMaze() == shown) {
+						renderer.draw(shown, solver.getSearchState(), solver.getSolutionPath());
+					}
+					else renderer.draw(shown);
+				}
 			}
 		};
 		animator.start();
@@ -150,15 +196,22 @@ public class MazeRunner extends Application {
 			FileChooser fileChooser = new FileChooser();
 			fileChooser.setInitialDirectory(new File("."));
 
-			// Set extension filter for text files
+			// Set extension filters for text files and compressed binary files
 			FileChooser.ExtensionFilter extFilter = new FileChooser.ExtensionFilter("TXT files (*.txt)", "*.txt");
-			fileChooser.getExtensionFilters().add(extFilter);
+			FileChooser.ExtensionFilter binaryFilter = new FileChooser.ExtensionFilter(
+					"Binary maze files (*" + Maze.BINARY_EXTENSION + ")", "*" + Maze.BINARY_EXTENSION);
+			fileChooser.getExtensionFilters().addAll(extFilter, binaryFilter);
 
 			// Show save file dialog
 			File file = fileChooser.showSaveDialog(stage);
 
 			if (file != null) {
-				if (maze.save(file)) {
+				// Include the solver's path in saved text mazes once it has found one (the binary format
+				// only stores the maze)
+				int[] path = mazeSolver != null ? mazeSolver.getSolutionPath() : new int[0];
+				boolean saved = file.getName().endsWith(Maze.BINARY_EXTENSION)
+						? maze.saveBinary(file, true) : maze.save(file, path);
+				if (saved) {
 					mazeTextArea.setText("Saved board successfully to " + file.getName());
 				} else {
 					mazeTextArea.appendText("Error saving board to " + file.getName() + "\n");
@@ -189,7 +242,7 @@ public class MazeRunner extends Application {
 		
 		// Set up spinners for choosing the number of rows and columns and make sure the spinners only
 		// accept integer input
-		Spinner<Integer> numRowsSpinner = new Spinner<Integer>(Maze.MIN_ROWS, Maze.MAX_ROWS, numRows);
+		Spinner<Integer> numRowsSpinner = new Spinner<Integer>(Maze.MIN_ROWS, Maze.MAX_DISPLAY_ROWS, numRows);
 		numRowsSpinner.valueProperty().addListener((obs, oldValue, newValue) -> {
 			numRows = newValue;
 		});
@@ -214,7 +267,7 @@ public class MazeRunner extends Application {
 		HBox rowSpinnerGroup = new HBox(numRowsLabel, numRowsSpinner);
 		rowSpinnerGroup.setId("hbox");
 		
-		Spinner<Integer> numColsSpinner = new Spinner<Integer>(Maze.MIN_COLUMNS, Maze.MAX_COLUMNS, numCols);
+		Spinner<Integer> numColsSpinner = new Spinner<Integer>(Maze.MIN_COLUMNS, Maze.MAX_DISPLAY_COLUMNS, numCols);
 		numColsSpinner.valueProperty().addListener((obs, oldValue, newValue) -> {
 			numCols = newValue;
 		});
@@ -228,31 +281,44 @@ public class MazeRunner extends Application {
 		Button generateButton = new Button("Generate New Maze");
 		generateButton.setOnAction(actionEvent -> {
 			
+			// Temporarily disable all controls while the maze is being generated
+			for (Control c : controls) c.setDisable(true);
+			
+			mazeTextArea.setText("Generating maze...\n");
+			
+			// The generator thread only touches the maze it generates: everything the GUI shows (including
+			// which maze it shows) is only changed on the JavaFX thread, and the cells the generator changes
+			// reach the renderer through the maze's record of changed cells
+			MazeGenerator.Algorithm algorithm = guaranteeMazeSolution ? MazeGenerator.Algorithm.DEPTH_FIRST
+					: MazeGenerator.Algorithm.RANDOM;
+			int rows = numRows, columns = numCols;
+			long seed = new SplittableRandom().nextLong();
+			
 			Thread mazeGeneratorThread = new Thread() {
 				public void run() {
-					// Temporarily disable all controls while the maze is being generated
-					for (Control c : controls) c.setDisable(true);
-					
-					mazeTextArea.setText("Generating maze...\n");
-					
-					maze = new Maze(numRows, numCols, guaranteeMazeSolution, mazeLock);
-					
-					// Wait for the maze to finish generating
-					synchronized(mazeLock) {
-						try {
-							mazeLock.wait();
-						} catch (InterruptedException e) {
-							e.printStackTrace();
+					// Show the maze as soon as it exists, and pause after each cell so the generation is visible
+					MazeGenerator.generate(algorithm, rows, columns, seed, new MazeGenerator.Listener() {
+						@Override public void started(Maze generating) {
+							generating.trackChanges(new DirtyCells(MAX_GENERATION_CHANGES));
+							Platform.runLater(() -> maze = generating);
 						}
-					}
-	
-					// Re-enable all controls
-					for (Control c : controls) c.setDisable(false);
-
-					mazeTextArea.appendText("Maze generated!");
+						
+						@Override public void cellChanged(Maze generating, int row, int column) {
+							try {
+								Thread.sleep(DRAWING_SPEED);
+							} catch (InterruptedException e) { /* do nothing */ }
+						}
+					});
 					
-					// Create a new solver for the new maze
-					createMazeSolver();
+					Platform.runLater(() -> {
+						// Re-enable all controls
+						for (Control c : controls) c.setDisable(false);
+
+						mazeTextArea.appendText("Maze generated! (seed " + seed + ")\n");
+						
+						// Create a new solver for the new maze
+						createMazeSolver();
+					});
 				}
 			};
 			mazeGeneratorThread.setDaemon(true);
@@ -289,8 +355,8 @@ public class MazeRunner extends Application {
 		// Clear Maze Button Setup
 		clearButton = new Button("Clear Maze");
 		clearButton.setOnAction(actionEvent -> {
-			mazeSolver = null;
-			maze.clear();
+			// Resetting only starts a new search epoch, so this is cheap even for huge mazes
+			if (mazeSolver != null) mazeSolver.reset();
 			mazeTextArea.setText("Maze cleared");
 		});
 		
@@ -332,6 +398,8 @@ public class MazeRunner extends Application {
 					case UNSOLVED: 	  if (mazeSolver.step()) {
 										mazeTextArea.setText("Maze Solved!\n");
 										mazeTextArea.appendText("Found goal after visiting "+ mazeSolver.getCellsVisited() + " cells");
+										mazeTextArea.appendText("\nPath length: "+ mazeSolver.getSolutionLength() + " cells");
+										mazeTextArea.appendText(frontierStats(mazeSolver));
 									  }
 									  else {
 										mazeTextArea.setText("Solving...\n");
@@ -341,10 +409,13 @@ public class MazeRunner extends Application {
 					
 					case SOLVED: 	  mazeTextArea.setText("Maze Solved!\n");
 									  mazeTextArea.appendText("Found goal after visiting "+ mazeSolver.getCellsVisited() + " cells");
+									  mazeTextArea.appendText("\nPath length: "+ mazeSolver.getSolutionLength() + " cells");
+									  mazeTextArea.appendText(frontierStats(mazeSolver));
 					break;
 						
 					case NO_SOLUTION: mazeTextArea.setText("Maze is impossible to solve!\n");
 									  mazeTextArea.appendText("Tried visiting "+ mazeSolver.getCellsVisited() + " cells");
+									  mazeTextArea.appendText(frontierStats(mazeSolver));
 					break;
 				
 				}
@@ -360,26 +431,6 @@ public class MazeRunner extends Application {
 			if (maze != null) {
 				if (playButton.getText().equals("Play")) { // if we aren't already playing
 					
-					// If we have an old thread waiting for a solver to finish, then kill it
-					if (solveThreadFinished != null && solveThreadFinished.isAlive()) {
-						solveThreadFinished.interrupt();
-						try {
-							solveThreadFinished.join();
-						} catch (InterruptedException e) {
-							//e.printStackTrace(); //do nothing
-						}
-					}
-					
-					// If we have an old solver currently running, then kill it
-					if (solveThread != null && solveThread.isAlive()) {
-						solveThread.interrupt();
-						try {
-							solveThread.join();
-						} catch (InterruptedException e) {
-							//e.printStackTrace(); //do nothing
-						}
-					}
-					
 					// Ensure we have a solver
 					if (mazeSolver == null) {
 						createMazeSolver();
@@ -392,73 +443,15 @@ public class MazeRunner extends Application {
 					
 					mazeTextArea.setText("Solving...\n");
 		
-					// Run the solve thread
-					solveThread = new Thread() {
-						@Override
-						public void run() {
-							mazeSolver.solve();
-						}
-					};
-					solveThread.setDaemon(true);
-					solveThread.start();
-					
-					// Create a thread as a callback that waits for the solver to finish and then updates the gui
-					solveThreadFinished = new Thread() {
-						public void run() {
-							try {
-								solveThread.join();
-								if (mazeSolver.getStatus() == MazeSolver.Status.SOLVED) {
-									mazeTextArea.setText("Maze Solved!\n");
-									mazeTextArea.appendText("Found goal after visiting "+ mazeSolver.getCellsVisited() + " cells");
-								}
-								else if (mazeSolver.getStatus() == MazeSolver.Status.NO_SOLUTION) {
-									mazeTextArea.setText("Maze is impossible to solve!\n");
-									mazeTextArea.appendText("Tried visiting "+ mazeSolver.getCellsVisited() + " cells");
-								}
-								
-								// If the user paused the solving process or the solver finished, re-enable
-								// controls and give them the option to continue playing if they want
-								if (playButton.getText().equals("Pause")) {
-									Platform.runLater(new Runnable(){ 
-										@Override public void run() { 
-											playButton.setText("Play");
-											
-											// Re-enable all interactive controls
-											for (Control c : controls) c.setDisable(false);
-										}
-									});
-								}
-							} catch (InterruptedException e) {
-								return;
-							}
-						}
-					};
-					solveThreadFinished.setDaemon(true);
-					solveThreadFinished.start();
+					// Let the animator step the solver from the next frame on
+					playing = true;
+					playedUntil = System.nanoTime();
 					
 				}
 				else { // if we are currently playing, pause the solver and re-enable all controls
 					
-					// If we have an old thread waiting for the solver to finish, then kill it
-					if (solveThreadFinished != null && solveThreadFinished.isAlive()) {
-						solveThreadFinished.interrupt();
-						try {
-							solveThreadFinished.join();
-						} catch (InterruptedException e) {
-							//e.printStackTrace(); //do nothing
-						}
-					}
-					
-					// Pause the solving thread
-					if (solveThread != null && solveThread.isAlive()) {
-						solveThread.interrupt();
-					
-						try {
-							solveThread.join();
-						} catch (InterruptedException e) {
-							//e.printStackTrace(); //do nothing
-						}
-					}
+					// Stop the animator stepping the solver
+					playing = false;
 					
 					mazeTextArea.setText("Paused!\n");
 					mazeTextArea.appendText("So far solver has visited "+ mazeSolver.getCellsVisited() + " cells");
@@ -474,6 +467,60 @@ public class MazeRunner extends Application {
 		// Disable play button at first till a maze is created
 		playButton.setDisable(true);
 		
+		// Solve Instantly Button Setup
+		solveInstantlyButton = new Button("Solve Instantly");
+		solveInstantlyButton.setOnAction(actionEvent -> {
+			if (maze != null) {
+				
+				// Ensure we have a solver
+				if (mazeSolver == null) {
+					createMazeSolver();
+				}
+				
+				// Disable all interactive controls while solving
+				for (Control c : controls) c.setDisable(true);
+				mazeTextArea.setText("Solving...\n");
+				
+				// Stop animating while the solver runs so that the finished maze is only drawn once, at the end,
+				// after the solver has handed it back (a frame drawn while it runs would mix cells from different
+				// moments, see DirtyCells)
+				animator.stop();
+				
+				MazeSolver solver = mazeSolver;
+				Thread solveInstantlyThread = new Thread() {
+					@Override
+					public void run() {
+						solver.solveFast();
+						
+						Platform.runLater(new Runnable(){ 
+							@Override public void run() { 
+								if (solver.getStatus() == MazeSolver.Status.SOLVED) {
+									mazeTextArea.setText("Maze Solved!\n");
+									mazeTextArea.appendText("Found goal after visiting "+ solver.getCellsVisited() + " cells");
+									mazeTextArea.appendText("\nPath length: "+ solver.getSolutionLength() + " cells");
+									mazeTextArea.appendText(frontierStats(solver));
+								}
+								else {
+									mazeTextArea.setText("Maze is impossible to solve!\n");
+									mazeTextArea.appendText("Tried visiting "+ solver.getCellsVisited() + " cells");
+									mazeTextArea.appendText(frontierStats(solver));
+								}
+								
+								// Draw the result and re-enable all interactive controls
+								animator.start();
+								for (Control c : controls) c.setDisable(false);
+							}
+						});
+					}
+				};
+				solveInstantlyThread.setDaemon(true);
+				solveInstantlyThread.start();
+			}
+		});
+		
+		// Disable solve instantly button at first till a maze is created
+		solveInstantlyButton.setDisable(true);
+		
 		// Add all the elements the user can interact with to the list of controls
 		controls.add(generateButton);
 		controls.add(generationComboBox);
@@ -482,6 +529,7 @@ public class MazeRunner extends Application {
 		controls.add(clearButton);
 		controls.add(stepButton);
 		controls.add(playButton);
+		controls.add(solveInstantlyButton);
 		controls.add(solverComboBox);
 		controls.add(numRowsSpinner);
 		controls.add(numColsSpinner);
@@ -513,8 +561,9 @@ public class MazeRunner extends Application {
 		// Third row (elements relevant to Maze Solving)
 		topGrid.add(stepButton, 0, 4);
 		topGrid.add(playButton, 1, 4);
-		topGrid.add(solverLabel, 2, 4);
-		topGrid.add(solverComboBox, 3, 4);
+		topGrid.add(solveInstantlyButton, 2, 4);
+		topGrid.add(solverLabel, 3, 4);
+		topGrid.add(solverComboBox, 4, 4);
 
 		// Add the grid to the top of the application
 		borderPane.setTop(topGrid);
@@ -548,6 +597,55 @@ public class MazeRunner extends Application {
 		stage.setResizable(false);
 	}
 	
+	/**
+	 * Utility method called by the animator each frame while the solver is playing. This steps the solver
+	 * in a single batch by as many cells as the animation speed allows for the time since the last
+	 * frame (one cell every DRAWING_SPEED milliseconds, just like MazeSolver.solve), and once the solver
+	 * finishes reports the result and re-enables the controls.
+	 */
+	private void playFrame()
+	{
+		long nanosPerStep = DRAWING_SPEED * 1_000_000L;
+		long steps = (System.nanoTime() - playedUntil) / nanosPerStep;
+		if (steps <= 0) return;
+		
+		// Carry over the time that didn't add up to a whole step to the next frame
+		playedUntil += steps * nanosPerStep;
+		MazeSolver.Status status = mazeSolver.step((int) Math.min(steps, Integer.MAX_VALUE));
+		
+		if (status == MazeSolver.Status.UNSOLVED) return;
+		if (status == MazeSolver.Status.SOLVED) {
+			mazeTextArea.setText("Maze Solved!\n");
+			mazeTextArea.appendText("Found goal after visiting "+ mazeSolver.getCellsVisited() + " cells");
+			mazeTextArea.appendText("\nPath length: "+ mazeSolver.getSolutionLength() + " cells");
+			mazeTextArea.appendText(frontierStats(mazeSolver));
+		}
+		else {
+			mazeTextArea.setText("Maze is impossible to solve!\n");
+			mazeTextArea.appendText("Tried visiting "+ mazeSolver.getCellsVisited() + " cells");
+			mazeTextArea.appendText(frontierStats(mazeSolver));
+		}
+		
+		// Give the user the option to play again (e.g., after loading a new maze)
+		playing = false;
+		playButton.setText("Play");
+		
+		// Re-enable all interactive controls
+		for (Control c : controls) c.setDisable(false);
+	}
+	
+	/**
+	 * Utility method to describe how large a solver's frontier got, for the text area
+	 * 
+	 * @param solver The solver
+	 * @return A line describing the solver's peak frontier size and the duplicate entries it avoided
+	 */
+	private static String frontierStats(MazeSolver solver)
+	{
+		return "\nPeak frontier: " + solver.getPeakFrontierSize() + " cells (" + solver.getDuplicatesAvoided()
+				+ " duplicates avoided)";
+	}
+	
 	/**
 	 * Utility method that creates a MazeSolver based on the current user specifications from the GUI.
 	 * This also ensures that all the GUI elements related to interacting with the solver are enabled.
@@ -555,20 +653,12 @@ public class MazeRunner extends Application {
 	private void createMazeSolver()
 	{
 		if (maze != null) {
-			switch(solverType)
-			{
-			case STACK: mazeSolver = new StackSolver(maze);
-			break;
-			
-			case QUEUE: mazeSolver = new QueueSolver(maze);
-			break;
-			
-			default: mazeSolver = new QueueSolver(maze); //shouldn't happen, but default to queue solver
-			break;
-			}
+			if (searchState == null || searchState.getMaze() != maze) searchState = new SearchState(maze);
+			mazeSolver = MazeSolver.create(solverType, searchState);
 			
 			stepButton.setDisable(false);
 			playButton.setDisable(false);
+			solveInstantlyButton.setDisable(false);
 			solverComboBox.setDisable(false);
 			clearButton.setDisable(false);
 		}
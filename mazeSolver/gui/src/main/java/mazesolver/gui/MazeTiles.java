@@ -0,0 +1,236 @@
+/* *****************************************************************************
+ * Title:            MazeTiles
+ * Files:            MazeTiles.java
+ * Semester:         Spring 2021
+ *
+ * Author:           Mickie Newman
+ *
+ * Description:		 A cache of pre-rendered images of square blocks of a maze's layout
+ *
+ * Written:       	 4/28/2021
+ **************************************************************************** */
+
+package mazesolver.gui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import mazesolver.Cell;
+import mazesolver.Maze;
+
+/**
+ * Pre-rendered images (tiles) of a maze's layout: its walls, open cells, start and goal, but nothing
+ * about any search. A tile is TILE_SIZE by TILE_SIZE pixels and belongs to a level: at level L each of
+ * its pixels shows a 2^L by 2^L block of cells, so zoomed out views can be drawn from a few coarse
+ * tiles instead of from every cell. A pixel takes the start's or goal's color if its block holds
+ * them, and otherwise the color of whichever of walls and open cells its block mostly holds, judged
+ * from at most SAMPLES by SAMPLES evenly spread cells so building a tile takes the same time at every
+ * level.
+ *
+ * Tiles are built when first asked for and kept until they are the least recently used of more than
+ * the cache's capacity. Tiles showing a cell that changes (e.g., while the maze is generated) must be
+ * invalidated.
+ *
+ * @author Mickie Newman
+ */
+final class MazeTiles {
+
+	/** The width and height of every tile, in pixels */
+	static final int TILE_SIZE = 128;
+
+	/** The coarsest level a tile can be at (so tile coordinates always fit in an int) */
+	static final int MAX_LEVEL = 24;
+
+	// The most cells along each side of a block that are looked at to work out a pixel's color
+	private static final int SAMPLES = 4;
+
+	// The colors cells are drawn with, as ARGB pixels
+	static final int WALL = argb(Color.BLACK);
+	static final int OPEN = argb(Color.WHITE);
+	static final int START = argb(Color.YELLOW);
+	static final int GOAL = argb(Color.GREEN);
+
+	// The maze the tiles show, and where its start and goal were when the tile being built was started
+	private final Maze maze;
+	private int startRow, startColumn, goalRow, goalColumn;
+
+	// The tiles built so far, least recently used first, by key (see key())
+	private final LinkedHashMap<Long, WritableImage> tiles;
+
+	// The colors of one tile's pixels while it is built
+	private final int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+
+	/**
+	 * Create an empty cache of tiles for a maze
+	 *
+	 * @param maze The maze the tiles show
+	 * @param capacity The most tiles to keep at once (must be > 0)
+	 */
+	MazeTiles(Maze maze, int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Error - tile cache capacity must be > 0, not " + capacity);
+		this.maze = maze;
+		this.tiles = new LinkedHashMap<Long, WritableImage>(16, 0.75f, true) {
+			@Override protected boolean removeEldestEntry(Map.Entry<Long, WritableImage> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Get a tile, building it if it isn't cached (and building is allowed)
+	 *
+	 * @param level The tile's level
+	 * @param tileRow Which row of tiles at that level the tile is in
+	 * @param tileColumn Which column of tiles at that level the tile is in
+	 * @param build Whether to build the tile if it isn't cached
+	 * @return The tile (whose pixels past the edge of the maze are unused), or null if it isn't cached
+	 * 		   and build is false
+	 */
+	WritableImage get(int level, int tileRow, int tileColumn, boolean build) {
+		long key = key(level, tileRow, tileColumn);
+		WritableImage tile = tiles.get(key);
+		if (tile == null && build) {
+			tile = render(level, tileRow, tileColumn);
+			tiles.put(key, tile);
+		}
+		return tile;
+	}
+
+	/**
+	 * Forget every cached tile that shows a cell, so it is built again with the cell's new type
+	 *
+	 * @param row The row of the cell
+	 * @param column The column of the cell
+	 */
+	void invalidate(int row, int column) {
+		if (tiles.isEmpty()) return;
+		for (int level = 0; level <= MAX_LEVEL; level++) {
+			int shift = level + Integer.numberOfTrailingZeros(TILE_SIZE);
+			tiles.remove(key(level, row >> shift, column >> shift));
+		}
+	}
+
+	/**
+	 * Forget every cached tile
+	 */
+	void clear() {
+		tiles.clear();
+	}
+
+	/**
+	 * Build a tile from the maze
+	 *
+	 * @param level The tile's level
+	 * @param tileRow Which row of tiles at that level the tile is in
+	 * @param tileColumn Which column of tiles at that level the tile is in
+	 * @return The tile
+	 */
+	private WritableImage render(int level, int tileRow, int tileColumn) {
+		// The start and goal move while a maze is generated, so look them up for every tile
+		Cell start = maze.getStartCell(), goal = maze.getGoalCell();
+		startRow = start.getRow();
+		startColumn = start.getColumn();
+		goalRow = goal.getRow();
+		goalColumn = goal.getColumn();
+
+		int block = 1 << level;
+		long firstRow = (long) tileRow * TILE_SIZE << level, firstColumn = (long) tileColumn * TILE_SIZE << level;
+
+		for (int y = 0; y < TILE_SIZE; y++) {
+			long rowStart = firstRow + (long) y * block;
+			int rows = (int) Math.min(block, maze.numRows() - rowStart);
+			for (int x = 0; x < TILE_SIZE; x++) {
+				long colStart = firstColumn + (long) x * block;
+				int columns = (int) Math.min(block, maze.numColumns() - colStart);
+				pixels[y * TILE_SIZE + x] = rows <= 0 || columns <= 0 ? OPEN
+						: color((int) rowStart, rows, (int) colStart, columns, level);
+			}
+		}
+
+		WritableImage tile = new WritableImage(TILE_SIZE, TILE_SIZE);
+		tile.getPixelWriter().setPixels(0, 0, TILE_SIZE, TILE_SIZE, PixelFormat.getIntArgbInstance(),
+				pixels, 0, TILE_SIZE);
+		return tile;
+	}
+
+	/**
+	 * Work out the color of the pixel showing a block of cells
+	 *
+	 * @param rowStart The first row of the block
+	 * @param rows How many rows the block has (fewer than 2^level at the edge of the maze)
+	 * @param colStart The first column of the block
+	 * @param columns How many columns the block has (fewer than 2^level at the edge of the maze)
+	 * @param level The level of the tile the pixel is in
+	 * @return The pixel's color
+	 */
+	private int color(int rowStart, int rows, int colStart, int columns, int level) {
+		if (holds(rowStart, colStart, level, goalRow, goalColumn, Cell.Type.GOAL)) return GOAL;
+		if (holds(rowStart, colStart, level, startRow, startColumn, Cell.Type.START)) return START;
+
+		int walls = 0, open = 0;
+		int rowSamples = Math.min(rows, SAMPLES), colSamples = Math.min(columns, SAMPLES);
+		for (int i = 0; i < rowSamples; i++) {
+			int row = rowStart + sample(i, rows, rowSamples);
+			for (int j = 0; j < colSamples; j++) {
+				if (maze.getType(row, colStart + sample(j, columns, colSamples)) == Cell.Type.WALL) walls++;
+				else open++;
+			}
+		}
+		return walls > open ? WALL : OPEN;
+	}
+
+	/**
+	 * Utility method to check whether a block of cells holds a cell of a given type (that is only ever
+	 * at one place in the maze)
+	 *
+	 * @param rowStart The first row of the block
+	 * @param colStart The first column of the block
+	 * @param level The level of the tile the block's pixel is in
+	 * @param row The row the cell of that type should be at
+	 * @param column The column the cell of that type should be at
+	 * @param type The type
+	 * @return True if the block holds the cell and the cell has the type, false otherwise
+	 */
+	private boolean holds(int rowStart, int colStart, int level, int row, int column, Cell.Type type) {
+		return row >> level == rowStart >> level && column >> level == colStart >> level
+				&& maze.getType(row, column) == type;
+	}
+
+	/**
+	 * Utility method to spread samples evenly over a run of cells
+	 *
+	 * @param i Which sample this is
+	 * @param length The number of cells in the run
+	 * @param samples The number of samples taken from the run
+	 * @return The position of the sampled cell in the run
+	 */
+	private static int sample(int i, int length, int samples) {
+		return (int) (((2L * i + 1) * length) / (2L * samples));
+	}
+
+	/**
+	 * Utility method to get the key a tile is cached under
+	 *
+	 * @param level The tile's level
+	 * @param tileRow Which row of tiles at that level the tile is in
+	 * @param tileColumn Which column of tiles at that level the tile is in
+	 * @return The key
+	 */
+	private static long key(int level, int tileRow, int tileColumn) {
+		return (long) level << 56 | (long) tileRow << 28 | tileColumn;
+	}
+
+	/**
+	 * Utility method to convert a color to an ARGB pixel
+	 *
+	 * @param color The color
+	 * @return The color's pixel value
+	 */
+	static int argb(Color color) {
+		return (int) Math.round(color.getOpacity() * 255) << 24 | (int) Math.round(color.getRed() * 255) << 16
+				| (int) Math.round(color.getGreen() * 255) << 8 | (int) Math.round(color.getBlue() * 255);
+	}
+}